@@ -0,0 +1,112 @@
+package com.forumemi.benchmarks;
+
+import com.forumemi.controller.AuthController;
+import com.forumemi.dto.LoginRequest;
+import com.forumemi.dto.UtilisateurAuth;
+import com.forumemi.model.Utilisateur;
+import com.forumemi.repository.UtilisateurRepository;
+import com.forumemi.service.LoginLookupCache;
+import com.forumemi.service.PasswordHashingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// AuthController.login end to end without HTTP or a database: lookup cache, hashing executor, token
+// generation and response building, over an in-memory UtilisateurRepository. With cost 4 BCrypt is
+// cheap enough for the rest of the flow to show; cost 10 is the production setting.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthLoginBenchmark {
+
+    private static final String EMAIL = "admin@emi.ac.ma";
+    private static final String MOT_DE_PASSE = "admin123";
+
+    @Param({"4", "10"})
+    private int bcryptStrength;
+
+    private PasswordHashingService passwordHashingService;
+    private AuthController authController;
+    private LoginRequest valide;
+    private LoginRequest motDePasseIncorrect;
+    private LoginRequest emailInconnu;
+
+    @Setup
+    public void setup() {
+        passwordHashingService = new PasswordHashingService();
+        BenchmarkSupport.setField(passwordHashingService, "bcryptStrength", bcryptStrength);
+        BenchmarkSupport.setField(passwordHashingService, "hashingThreads", Runtime.getRuntime().availableProcessors());
+        BenchmarkSupport.setField(passwordHashingService, "hashingQueueCapacity", 1024);
+        passwordHashingService.init();
+
+        UtilisateurAuth admin = new UtilisateurAuth(1L, "Admin", "Forum EMI", EMAIL, Utilisateur.Role.ADMIN,
+                passwordHashingService.encode(MOT_DE_PASSE));
+        UtilisateurRepository utilisateurRepository = inMemory(Map.of(EMAIL, admin));
+
+        LoginLookupCache loginLookupCache = new LoginLookupCache();
+        BenchmarkSupport.setField(loginLookupCache, "utilisateurRepository", utilisateurRepository);
+        BenchmarkSupport.setField(loginLookupCache, "maximumSize", 10000L);
+        BenchmarkSupport.setField(loginLookupCache, "ttl", Duration.ofMinutes(10));
+        BenchmarkSupport.setField(loginLookupCache, "negativeTtl", Duration.ofMinutes(1));
+        loginLookupCache.init();
+
+        authController = new AuthController();
+        BenchmarkSupport.setField(authController, "utilisateurRepository", utilisateurRepository);
+        BenchmarkSupport.setField(authController, "loginLookupCache", loginLookupCache);
+        BenchmarkSupport.setField(authController, "jwtUtil", BenchmarkSupport.newJwtUtil(1024));
+        BenchmarkSupport.setField(authController, "passwordHashingService", passwordHashingService);
+
+        valide = new LoginRequest(EMAIL, MOT_DE_PASSE);
+        motDePasseIncorrect = new LoginRequest(EMAIL, "mauvais");
+        emailInconnu = new LoginRequest("inconnu@emi.ac.ma", MOT_DE_PASSE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> loginValide() {
+        return authController.login(valide).join();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> loginMotDePasseIncorrect() {
+        return authController.login(motDePasseIncorrect).join();
+    }
+
+    // lookup answered from the negative cache, then a check against the dummy hash: should match loginMotDePasseIncorrect
+    @Benchmark
+    public ResponseEntity<?> loginEmailInconnu() {
+        return authController.login(emailInconnu).join();
+    }
+
+    // only the two methods the login flow calls; anything else means the flow changed
+    private static UtilisateurRepository inMemory(Map<String, UtilisateurAuth> utilisateurs) {
+        return (UtilisateurRepository) Proxy.newProxyInstance(UtilisateurRepository.class.getClassLoader(),
+                new Class<?>[] {UtilisateurRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findAuthByEmail":
+                            return Optional.ofNullable(utilisateurs.get((String) args[0]));
+                        case "updateMotDePasse":
+                            return 1;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "UtilisateurRepository en mémoire";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,39 @@
+
+package com.forumemi.benchmarks;
+
+import com.forumemi.security.JwtUtil;
+import java.lang.reflect.Field;
+
+final class BenchmarkSupport {
+
+    static final String JWT_SECRET = "mySecretKeyForForumEmiConnectDevelopmentOnly";
+
+    private BenchmarkSupport() {}
+
+    static JwtUtil newJwtUtil(int verifiedTokenCacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        setField(jwtUtil, "jwtSecret", JWT_SECRET);
+        setField(jwtUtil, "jwtExpirationMs", 86400000);
+        setField(jwtUtil, "verifiedTokenCacheSize", verifiedTokenCacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    // Benchmarks build beans without a Spring context, so @Value/@Autowired fields are set directly.
+    static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("Champ introuvable: " + name);
+    }
+}
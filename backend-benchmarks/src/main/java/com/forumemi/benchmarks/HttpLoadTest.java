@@ -0,0 +1,149 @@
+package com.forumemi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Closed-loop HTTP load against a running backend: each client sends its next request as soon as the
+// previous one answers, for a fixed duration. Used to compare the platform-thread and virtual-thread
+// modes on the same machine and database (see README).
+//
+//   java -cp target/benchmarks.jar com.forumemi.benchmarks.HttpLoadTest <stands|login> [baseUrl] [clients] [seconds] [label]
+public final class HttpLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        String scenario = args.length > 0 ? args[0] : "stands";
+        String baseUrl = args.length > 1 ? args[1] : "http://localhost:8080";
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+        String label = args.length > 4 ? args[4] : "";
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        byte[] credentials = MAPPER.writeValueAsBytes(Map.of("email", "admin@emi.ac.ma", "motDePasse", "admin123"));
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(credentials))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        HttpRequest request;
+        switch (scenario) {
+            case "login":
+                request = login;
+                break;
+            case "stands":
+                String token = MAPPER.readTree(client.send(login, HttpResponse.BodyHandlers.ofString()).body()).get("token").asText();
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/stands?size=100"))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build();
+                break;
+            default:
+                throw new IllegalArgumentException("Scénario inconnu: " + scenario);
+        }
+
+        // short warm-up so JIT compilation and pool filling are not measured
+        run(client, request, clients, 10);
+        Result result = run(client, request, clients, seconds);
+
+        long[] latences = result.latences;
+        System.out.printf("%s scenario=%s clients=%d duree=%ds requetes=%d erreurs=%d debit=%.0f req/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+                label, scenario, clients, seconds, latences.length, result.erreurs, latences.length / (double) seconds,
+                percentile(latences, 0.50), percentile(latences, 0.99), percentile(latences, 1.0));
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int clients, int seconds) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        CountDownLatch depart = new CountDownLatch(1);
+        long fin = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Future<Worker>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            futures.add(pool.submit(() -> {
+                Worker worker = new Worker();
+                depart.await();
+                while (System.nanoTime() < fin) {
+                    long debut = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            worker.record(System.nanoTime() - debut);
+                        } else {
+                            worker.erreurs++;
+                        }
+                    } catch (IOException e) {
+                        worker.erreurs++;
+                    }
+                }
+                return worker;
+            }));
+        }
+        depart.countDown();
+
+        List<Worker> workers = new ArrayList<>();
+        for (Future<Worker> future : futures) {
+            workers.add(future.get());
+        }
+        pool.shutdown();
+
+        int total = workers.stream().mapToInt(worker -> worker.count).sum();
+        long[] latences = new long[total];
+        int offset = 0;
+        long erreurs = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.latences, 0, latences, offset, worker.count);
+            offset += worker.count;
+            erreurs += worker.erreurs;
+        }
+        Arrays.sort(latences);
+        return new Result(latences, erreurs);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static final class Worker {
+        private long[] latences = new long[1024];
+        private int count;
+        private long erreurs;
+
+        void record(long nanos) {
+            if (count == latences.length) {
+                latences = Arrays.copyOf(latences, count * 2);
+            }
+            latences[count++] = nanos;
+        }
+    }
+
+    private static final class Result {
+        private final long[] latences;
+        private final long erreurs;
+
+        Result(long[] latences, long erreurs) {
+            this.latences = latences;
+            this.erreurs = erreurs;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.forumemi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.forumemi.dto.ConferenceResponse;
+import com.forumemi.dto.EntrepriseResponse;
+import com.forumemi.dto.StandResponse;
+import com.forumemi.model.Conference;
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Intervenant;
+import com.forumemi.model.Salle;
+import com.forumemi.model.Stand;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// JSON cost of the stand, company and conference payloads: list responses as the controllers write
+// them, and the entity request bodies as @RequestBody reads them. The mapper is configured like the
+// one Spring Boot builds (java.time module, ISO dates, unknown properties ignored).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int taille;
+
+    private ObjectMapper objectMapper;
+    private List<Stand> stands;
+    private List<StandResponse> standResponses;
+    private List<EntrepriseResponse> entrepriseResponses;
+    private List<ConferenceResponse> conferenceResponses;
+    private byte[] standJson;
+    private byte[] entrepriseJson;
+    private byte[] conferenceJson;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<Entreprise> entreprises = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, taille / 5); i++) {
+            Entreprise entreprise = new Entreprise("Entreprise " + i);
+            entreprise.setId((long) i + 1);
+            entreprises.add(entreprise);
+        }
+        stands = new ArrayList<>();
+        Stand.TailleStand[] tailles = Stand.TailleStand.values();
+        for (int i = 0; i < taille; i++) {
+            Stand stand = new Stand(i + 1, "Zone " + (char) ('A' + i % 4), tailles[i % tailles.length]);
+            stand.setId((long) i + 1);
+            if (i < entreprises.size()) {
+                stand.setEntreprise(entreprises.get(i));
+                stand.setStatut(Stand.StatutStand.RESERVE);
+            }
+            stands.add(stand);
+        }
+        Salle salle = new Salle(1, 480);
+        salle.setId(1L);
+        List<Conference> conferences = new ArrayList<>();
+        LocalDateTime debut = LocalDateTime.of(2026, 3, 10, 9, 0);
+        for (int i = 0; i < taille; i++) {
+            Intervenant intervenant = new Intervenant("Intervenant " + i, null, "Data", entreprises.get(i % entreprises.size()));
+            intervenant.setId((long) i + 1);
+            intervenant.setEmail("intervenant" + i + "@example.com");
+            Conference conference = new Conference("Conférence " + i, debut.plusHours(i), debut.plusHours(i).plusMinutes(45), salle);
+            conference.setId((long) i + 1);
+            conference.setIntervenants(List.of(intervenant));
+            conferences.add(conference);
+        }
+
+        standResponses = stands.stream().map(StandResponse::from).collect(Collectors.toList());
+        entrepriseResponses = entreprises.stream().map(EntrepriseResponse::from).collect(Collectors.toList());
+        conferenceResponses = conferences.stream().map(ConferenceResponse::from).collect(Collectors.toList());
+
+        // request bodies as a client sends them; the entities themselves are not serialisable (back references)
+        standJson = objectMapper.writeValueAsBytes(body("numero", 42, "zone", "Zone A", "taille", "LARGE"));
+        entrepriseJson = objectMapper.writeValueAsBytes(body("nom", "Entreprise 42"));
+        conferenceJson = objectMapper.writeValueAsBytes(body("titre", "Conférence 42",
+                "dateDebut", "2026-03-10T09:00:00", "dateFin", "2026-03-10T09:45:00", "salle", body("id", 1)));
+    }
+
+    @Benchmark
+    public byte[] standsVersJson() throws Exception {
+        return objectMapper.writeValueAsBytes(standResponses);
+    }
+
+    // mapping included, as in a controller that starts from entities
+    @Benchmark
+    public byte[] standsDepuisEntitesVersJson() throws Exception {
+        return objectMapper.writeValueAsBytes(stands.stream().map(StandResponse::from).collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public byte[] entreprisesVersJson() throws Exception {
+        return objectMapper.writeValueAsBytes(entrepriseResponses);
+    }
+
+    @Benchmark
+    public byte[] conferencesVersJson() throws Exception {
+        return objectMapper.writeValueAsBytes(conferenceResponses);
+    }
+
+    @Benchmark
+    public Stand standDepuisJson() throws Exception {
+        return objectMapper.readValue(standJson, Stand.class);
+    }
+
+    @Benchmark
+    public Entreprise entrepriseDepuisJson() throws Exception {
+        return objectMapper.readValue(entrepriseJson, Entreprise.class);
+    }
+
+    @Benchmark
+    public Conference conferenceDepuisJson() throws Exception {
+        return objectMapper.readValue(conferenceJson, Conference.class);
+    }
+
+    private static Map<String, Object> body(Object... entries) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            body.put((String) entries[i], entries[i + 1]);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,69 @@
+
+package com.forumemi.benchmarks;
+
+import com.forumemi.security.JwtUtil;
+import com.forumemi.security.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+// Compares the per-request cost of reading email + role from a bearer token before and after
+// JwtUtil started reusing its key, its parser and already verified tokens.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cachedJwtUtil = BenchmarkSupport.newJwtUtil(1024);
+        uncachedJwtUtil = BenchmarkSupport.newJwtUtil(0);
+        token = cachedJwtUtil.generateToken("admin@emi.ac.ma", "ADMIN");
+    }
+
+    @Benchmark
+    public void legacyPerCallKeyAndParser(Blackhole blackhole) {
+        // what getEmailFromToken + getRoleFromToken did before: two key derivations, two parses
+        Claims forEmail = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(BenchmarkSupport.JWT_SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        Claims forRole = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(BenchmarkSupport.JWT_SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        blackhole.consume(forEmail.getSubject());
+        blackhole.consume(forRole.get("role", String.class));
+    }
+
+    @Benchmark
+    public void reusedParserSingleParse(Blackhole blackhole) {
+        TokenClaims claims = uncachedJwtUtil.parseToken(token).orElseThrow();
+        blackhole.consume(claims.getEmail());
+        blackhole.consume(claims.getRole());
+    }
+
+    @Benchmark
+    public void verifiedTokenCacheHit(Blackhole blackhole) {
+        TokenClaims claims = cachedJwtUtil.parseToken(token).orElseThrow();
+        blackhole.consume(claims.getEmail());
+        blackhole.consume(claims.getRole());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedJwtUtil.generateToken("admin@emi.ac.ma", "ADMIN");
+    }
+}
@@ -0,0 +1,47 @@
+
+package com.forumemi.benchmarks;
+
+import com.forumemi.service.PasswordHashingService;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+// Login burst against the bounded hashing executor: more client threads than hashing threads,
+// so the sample-time percentiles include queueing. Read ops/s (thrpt) next to p0.99 (sample)
+// for each BCrypt cost.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String MOT_DE_PASSE = "admin123";
+
+    @Param({"8", "10", "12"})
+    private int bcryptStrength;
+
+    private PasswordHashingService passwordHashingService;
+    private String motDePasseStocke;
+
+    @Setup
+    public void setup() {
+        passwordHashingService = new PasswordHashingService();
+        BenchmarkSupport.setField(passwordHashingService, "bcryptStrength", bcryptStrength);
+        BenchmarkSupport.setField(passwordHashingService, "hashingThreads", Runtime.getRuntime().availableProcessors());
+        BenchmarkSupport.setField(passwordHashingService, "hashingQueueCapacity", 1024);
+        passwordHashingService.init();
+        motDePasseStocke = passwordHashingService.encode(MOT_DE_PASSE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return passwordHashingService.verify(MOT_DE_PASSE, motDePasseStocke).join().matches();
+    }
+}
@@ -0,0 +1,69 @@
+package com.forumemi.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Compares two JMH result files written with -rf json and exits with status 1 when a benchmark got
+// slower than the tolerance allows, so it can gate a deployment (see README).
+//
+//   java -cp target/benchmarks.jar com.forumemi.benchmarks.RegressionCheck <reference.json> <courant.json> [tolerance %]
+public final class RegressionCheck {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionCheck <reference.json> <courant.json> [tolerance %]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> reference = read(new File(args[0]));
+        Map<String, JsonNode> courant = read(new File(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : courant.entrySet()) {
+            JsonNode avant = reference.get(entry.getKey());
+            if (avant == null) {
+                System.out.printf("NOUVEAU    %s%n", entry.getKey());
+                continue;
+            }
+            JsonNode apres = entry.getValue();
+            double scoreAvant = avant.path("primaryMetric").path("score").asDouble();
+            double scoreApres = apres.path("primaryMetric").path("score").asDouble();
+            // thrpt: higher is better; avgt, sample and ss are times: lower is better
+            boolean debit = "thrpt".equals(apres.path("mode").asText());
+            double degradation = (debit ? scoreAvant - scoreApres : scoreApres - scoreAvant) / scoreAvant * 100;
+            boolean regression = degradation > tolerance;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n", regression ? "REGRESSION" : "OK", entry.getKey(),
+                    scoreAvant, scoreApres, apres.path("primaryMetric").path("scoreUnit").asText(), -degradation);
+        }
+        System.out.printf("%d benchmarks, %d régressions au-delà de %.0f%%%n", courant.size(), regressions, tolerance);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    // keyed by benchmark, mode and parameters, e.g. "...JwtUtilBenchmark.generateToken avgt"
+    private static Map<String, JsonNode> read(File file) throws Exception {
+        Map<String, JsonNode> resultats = new LinkedHashMap<>();
+        for (JsonNode resultat : MAPPER.readTree(file)) {
+            StringBuilder cle = new StringBuilder(resultat.path("benchmark").asText())
+                    .append(' ').append(resultat.path("mode").asText());
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> champs = resultat.path("params").fields();
+            while (champs.hasNext()) {
+                Map.Entry<String, JsonNode> champ = champs.next();
+                params.put(champ.getKey(), champ.getValue().asText());
+            }
+            params.forEach((nom, valeur) -> cle.append(' ').append(nom).append('=').append(valeur));
+            resultats.put(cle.toString(), resultat);
+        }
+        return resultats;
+    }
+}
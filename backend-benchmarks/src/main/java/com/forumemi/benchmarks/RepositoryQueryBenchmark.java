@@ -0,0 +1,217 @@
+package com.forumemi.benchmarks;
+
+import com.forumemi.dto.ConferenceResponse;
+import com.forumemi.dto.EntrepriseResponse;
+import com.forumemi.dto.StandEtat;
+import com.forumemi.dto.StandResponse;
+import com.forumemi.dto.TacheResponse;
+import com.forumemi.dto.TacheSuivi;
+import com.forumemi.dto.UtilisateurAuth;
+import com.forumemi.model.Conference;
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Intervenant;
+import com.forumemi.model.MembreEquipeLogistique;
+import com.forumemi.model.Salle;
+import com.forumemi.model.Stand;
+import com.forumemi.model.Tache;
+import com.forumemi.repository.ConferenceRepository;
+import com.forumemi.repository.EntrepriseRepository;
+import com.forumemi.repository.IntervenantRepository;
+import com.forumemi.repository.SalleRepository;
+import com.forumemi.repository.StandRepository;
+import com.forumemi.repository.TacheRepository;
+import com.forumemi.repository.UtilisateurRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// The repository queries behind the list endpoints, run by the real JPA repositories and Hibernate
+// against an in-memory H2 database in PostgreSQL mode. Absolute times are not those of PostgreSQL;
+// the point is to catch regressions in the JPQL, the projections and the Hibernate settings, with
+// and without the second-level and query caches.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+    private static final Pageable PAGE = PageRequest.of(0, 100);
+    private static final LocalDateTime DEBUT = LocalDateTime.of(2026, 3, 10, 8, 0);
+
+    @Param({"5000"})
+    private int nombreStands;
+
+    @Param({"false", "true"})
+    private boolean cacheSecondNiveau;
+
+    private ConfigurableApplicationContext context;
+    private StandRepository standRepository;
+    private EntrepriseRepository entrepriseRepository;
+    private TacheRepository tacheRepository;
+    private ConferenceRepository conferenceRepository;
+    private UtilisateurRepository utilisateurRepository;
+
+    @Setup
+    public void setup() {
+        // command-line style arguments override everything; spring.config.name keeps the backend's
+        // application.yml (PostgreSQL, actuator, management port) out of this context
+        context = new SpringApplicationBuilder(RepositoryBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.config.name=benchmarks",
+                     "--spring.main.banner-mode=off",
+                     "--logging.level.root=WARN",
+                     "--spring.datasource.url=jdbc:h2:mem:forum;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                     "--spring.jpa.hibernate.ddl-auto=create-drop",
+                     "--spring.jpa.open-in-view=false",
+                     "--spring.jpa.properties.hibernate.default_batch_fetch_size=50",
+                     "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                     "--spring.jpa.properties.hibernate.order_inserts=true",
+                     "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cacheSecondNiveau,
+                     "--spring.jpa.properties.hibernate.cache.use_query_cache=" + cacheSecondNiveau,
+                     "--spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+                     "--spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+                     "--spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail");
+        standRepository = context.getBean(StandRepository.class);
+        entrepriseRepository = context.getBean(EntrepriseRepository.class);
+        tacheRepository = context.getBean(TacheRepository.class);
+        conferenceRepository = context.getBean(ConferenceRepository.class);
+        utilisateurRepository = context.getBean(UtilisateurRepository.class);
+        seed();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StandResponse> standsPremierePage() {
+        return standRepository.findResponsesAfter(0L, PAGE);
+    }
+
+    @Benchmark
+    public List<StandResponse> standsParZone() {
+        return standRepository.findByZone("Zone A");
+    }
+
+    // what the availability index loads at startup
+    @Benchmark
+    public List<StandEtat> standsEtats() {
+        return standRepository.findAllEtats();
+    }
+
+    @Benchmark
+    public List<EntrepriseResponse> entreprisesPremierePage() {
+        return entrepriseRepository.findResponsesAfter(0L, PAGE);
+    }
+
+    @Benchmark
+    public List<TacheResponse> tachesPremierePage() {
+        return tacheRepository.findResponsesAfter(0L, PAGE);
+    }
+
+    @Benchmark
+    public List<TacheSuivi> tachesOuvertes() {
+        return tacheRepository.findSuivisByStatutNot(Tache.StatutTache.TERMINEE);
+    }
+
+    // one day of the programme, mapped as the controller does
+    @Benchmark
+    public List<ConferenceResponse> programmeDuJour() {
+        return conferenceRepository.findProgramme(DEBUT, DEBUT.plusDays(1)).stream()
+                .map(ConferenceResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Optional<UtilisateurAuth> utilisateurParEmail() {
+        return utilisateurRepository.findAuthByEmail("membre7@emi.ac.ma");
+    }
+
+    private void seed() {
+        int nombreEntreprises = Math.max(1, nombreStands / 5);
+        List<Entreprise> entreprises = new ArrayList<>();
+        for (int i = 0; i < nombreEntreprises; i++) {
+            entreprises.add(new Entreprise("Entreprise " + i));
+        }
+        entreprises = entrepriseRepository.saveAll(entreprises);
+
+        List<Stand> stands = new ArrayList<>();
+        Stand.TailleStand[] tailles = Stand.TailleStand.values();
+        for (int i = 0; i < nombreStands; i++) {
+            Stand stand = new Stand(i + 1, "Zone " + (char) ('A' + i % 8), tailles[i % tailles.length]);
+            if (i < entreprises.size()) {
+                stand.setEntreprise(entreprises.get(i));
+                stand.setStatut(Stand.StatutStand.RESERVE);
+            }
+            stands.add(stand);
+        }
+        standRepository.saveAll(stands);
+
+        List<Salle> salles = context.getBean(SalleRepository.class).saveAll(List.of(new Salle(1, 480), new Salle(2, 220)));
+        List<Intervenant> intervenants = new ArrayList<>();
+        for (int i = 0; i < nombreEntreprises; i++) {
+            Intervenant intervenant = new Intervenant("Intervenant " + i, "Biographie " + i, "Data", entreprises.get(i));
+            intervenant.setEmail("intervenant" + i + "@example.com");
+            intervenants.add(intervenant);
+        }
+        intervenants = context.getBean(IntervenantRepository.class).saveAll(intervenants);
+
+        // ten 45-minute talks per room and day over five days, two speakers each
+        List<Conference> conferences = new ArrayList<>();
+        for (int jour = 0; jour < 5; jour++) {
+            for (int creneau = 0; creneau < 10; creneau++) {
+                for (Salle salle : salles) {
+                    LocalDateTime debut = DEBUT.plusDays(jour).plusHours(1 + creneau);
+                    Conference conference = new Conference("Conférence " + conferences.size(), debut, debut.plusMinutes(45), salle);
+                    int premier = conferences.size() * 2 % intervenants.size();
+                    conference.setIntervenants(List.of(intervenants.get(premier), intervenants.get((premier + 1) % intervenants.size())));
+                    conferences.add(conference);
+                }
+            }
+        }
+        conferenceRepository.saveAll(conferences);
+
+        List<MembreEquipeLogistique> membres = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            membres.add(new MembreEquipeLogistique("Membre " + i, "Prénom " + i, "membre" + i + "@emi.ac.ma", "$2a$10$benchmark"));
+        }
+        membres = utilisateurRepository.saveAll(membres);
+
+        List<Tache> taches = new ArrayList<>();
+        Tache.StatutTache[] statuts = Tache.StatutTache.values();
+        Tache.PrioriteTache[] priorites = Tache.PrioriteTache.values();
+        for (int i = 0; i < nombreStands; i++) {
+            Tache tache = new Tache("Tâche " + i, LocalDate.of(2026, 3, 1).plusDays(i % 30), membres.get(i % membres.size()));
+            tache.setStatut(statuts[i % statuts.length]);
+            tache.setPriorite(priorites[i % priorites.length]);
+            taches.add(tache);
+        }
+        tacheRepository.saveAll(taches);
+    }
+
+    // Only the persistence layer of the backend: entities, repositories and their auto-configuration,
+    // none of the services, schedulers or web configuration.
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("com.forumemi.model")
+    @EnableJpaRepositories("com.forumemi.repository")
+    static class RepositoryBenchmarkApplication {
+    }
+}
@@ -0,0 +1,159 @@
+package com.forumemi.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Registration-opening scenario against a running backend: N companies ask for a LARGE stand at the same
+// instant while only M exist. Passes when exactly min(N, M) reservations succeed, every other request gets
+// 409, and no stand or company ends up with two owners.
+//
+//   java -cp target/benchmarks.jar com.forumemi.benchmarks.StandReservationLoadTest [baseUrl] [clients] [stands]
+public final class StandReservationLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(16))
+            .build();
+    private final String baseUrl;
+    private String token;
+
+    private StandReservationLoadTest(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int stands = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        boolean ok = new StandReservationLoadTest(baseUrl).run(clients, stands);
+        System.exit(ok ? 0 : 1);
+    }
+
+    private boolean run(int clients, int stands) throws Exception {
+        token = post("/api/auth/login", Map.of("email", "admin@emi.ac.ma", "motDePasse", "admin123")).get("token").asText();
+
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        String zone = "LOADTEST-" + run;
+        // kept below a million: the availability index keeps one bit per stand number
+        int premierNumero = 100_000 + ThreadLocalRandom.current().nextInt(800_000);
+
+        List<Map<String, Object>> newStands = new ArrayList<>();
+        for (int i = 0; i < stands; i++) {
+            newStands.add(Map.of("numero", premierNumero + i, "zone", zone, "taille", "LARGE"));
+        }
+        post("/api/stands/bulk", newStands);
+
+        List<Map<String, Object>> newEntreprises = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            newEntreprises.add(Map.of("nom", "loadtest-" + run + "-" + i));
+        }
+        List<Long> entrepriseIds = new ArrayList<>();
+        for (JsonNode entreprise : post("/api/entreprises/bulk", newEntreprises).get("elements")) {
+            entrepriseIds.add(entreprise.get("id").asLong());
+        }
+
+        // every client is parked on the latch, then they all fire together
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        CountDownLatch depart = new CountDownLatch(1);
+        Map<Integer, AtomicInteger> statuts = new ConcurrentHashMap<>();
+        Map<Long, Long> standParEntreprise = new ConcurrentHashMap<>();
+        long[] latences = new long[clients];
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int index = i;
+            Long entrepriseId = entrepriseIds.get(i);
+            futures.add(pool.submit(() -> {
+                depart.await();
+                long debut = System.nanoTime();
+                HttpResponse<String> response = send("POST", "/api/stands/reservation?taille=LARGE&zone=" + zone,
+                        Map.of("entrepriseId", entrepriseId));
+                latences[index] = System.nanoTime() - debut;
+                statuts.computeIfAbsent(response.statusCode(), code -> new AtomicInteger()).incrementAndGet();
+                if (response.statusCode() == 200) {
+                    standParEntreprise.put(entrepriseId, MAPPER.readTree(response.body()).get("id").asLong());
+                }
+                return null;
+            }));
+        }
+        long debut = System.nanoTime();
+        depart.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long dureeMs = (System.nanoTime() - debut) / 1_000_000;
+        pool.shutdown();
+
+        // what the database says, independently of what the clients were told
+        Map<Long, Long> proprietaires = new HashMap<>();
+        int reserves = 0;
+        for (JsonNode stand : get("/api/stands/zone/" + zone)) {
+            if (!stand.get("entrepriseId").isNull()) {
+                reserves++;
+                proprietaires.put(stand.get("id").asLong(), stand.get("entrepriseId").asLong());
+            }
+        }
+        Set<Long> standsAttribues = new HashSet<>(standParEntreprise.values());
+
+        Arrays.sort(latences);
+        System.out.printf("clients=%d stands=%d duree=%dms statuts=%s%n", clients, stands, dureeMs, statuts);
+        System.out.printf("latence p50=%dms p99=%dms max=%dms%n", latences[clients / 2] / 1_000_000,
+                latences[(int) (clients * 0.99)] / 1_000_000, latences[clients - 1] / 1_000_000);
+
+        int attendu = Math.min(clients, stands);
+        boolean ok = standParEntreprise.size() == attendu
+                && standsAttribues.size() == attendu
+                && reserves == attendu
+                && standParEntreprise.entrySet().stream().allMatch(e -> e.getKey().equals(proprietaires.get(e.getValue())));
+        System.out.println(ok ? "OK: aucune réservation perdue ni double"
+                : "ECHEC: succès=" + standParEntreprise.size() + " stands distincts=" + standsAttribues.size()
+                        + " réservés en base=" + reserves + " attendu=" + attendu);
+        return ok;
+    }
+
+    private JsonNode post(String path, Object body) throws Exception {
+        HttpResponse<String> response = send("POST", path, body);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " -> " + response.statusCode() + " " + response.body());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private JsonNode get(String path) throws Exception {
+        HttpResponse<String> response = client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+        return MAPPER.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(String method, String path, Object body) throws Exception {
+        HttpRequest request = request(path)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+}
@@ -0,0 +1,75 @@
+package com.forumemi.controller;
+
+import com.forumemi.dto.CacheRegionStats;
+import com.forumemi.dto.EchantillonnageTrace;
+import com.forumemi.dto.EndpointPerf;
+import com.forumemi.dto.SponsoringResponse;
+import com.forumemi.monitoring.EndpointPerfRegistry;
+import com.forumemi.monitoring.TraceSampling;
+import com.forumemi.service.CacheStatisticsService;
+import com.forumemi.service.SponsoringRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*")
+public class AdminController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EndpointPerfRegistry endpointPerfRegistry;
+
+    @Autowired
+    private SponsoringRollupService sponsoringRollupService;
+
+    @GetMapping("/cache")
+    public List<CacheRegionStats> getCacheStatistics() {
+        return cacheStatisticsService.getRegions();
+    }
+
+    @DeleteMapping("/cache/statistiques")
+    public ResponseEntity<Void> resetCacheStatistics() {
+        cacheStatisticsService.reset();
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/logs/echantillonnage")
+    public EchantillonnageTrace getEchantillonnage() {
+        return new EchantillonnageTrace(TraceSampling.getTaux(), TraceSampling.getLoggers());
+    }
+
+    // e.g. {"taux": 0.01, "loggers": ["com.forumemi", "org.springframework.security"]}; taux 0 turns it off
+    @PutMapping("/logs/echantillonnage")
+    public ResponseEntity<EchantillonnageTrace> setEchantillonnage(@RequestBody EchantillonnageTrace echantillonnage) {
+        try {
+            TraceSampling.configure(echantillonnage.getTaux(), echantillonnage.getLoggers());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(getEchantillonnage());
+    }
+
+    // latency per endpoint and status since startup or the last reset, slowest p99 first
+    @GetMapping("/perf")
+    public List<EndpointPerf> getPerf() {
+        return endpointPerfRegistry.summary();
+    }
+
+    @DeleteMapping("/perf")
+    public ResponseEntity<Void> resetPerf() {
+        endpointPerfRegistry.reset();
+        return ResponseEntity.ok().build();
+    }
+
+    // runs the scheduled consistency check now
+    @PostMapping("/sponsoring/verification")
+    public SponsoringResponse verifierSponsoring() {
+        sponsoringRollupService.verifier();
+        return sponsoringRollupService.getSponsoring();
+    }
+}
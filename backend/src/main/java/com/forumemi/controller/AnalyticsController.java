@@ -0,0 +1,20 @@
+package com.forumemi.controller;
+
+import com.forumemi.dto.SponsoringResponse;
+import com.forumemi.service.SponsoringRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private SponsoringRollupService sponsoringRollupService;
+
+    @GetMapping("/sponsoring")
+    public SponsoringResponse getSponsoring() {
+        return sponsoringRollupService.getSponsoring();
+    }
+}
@@ -3,13 +3,21 @@ package com.forumemi.controller;
 
 import com.forumemi.dto.LoginRequest;
 import com.forumemi.dto.LoginResponse;
-import com.forumemi.model.Utilisateur;
+import com.forumemi.dto.UtilisateurAuth;
 import com.forumemi.repository.UtilisateurRepository;
 import com.forumemi.security.JwtUtil;
+import com.forumemi.service.LoginLookupCache;
+import com.forumemi.service.PasswordHashingService;
+import com.forumemi.service.PasswordHashingService.PasswordCheck;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -19,28 +27,67 @@ public class AuthController {
     @Autowired
     private UtilisateurRepository utilisateurRepository;
 
+    @Autowired
+    private LoginLookupCache loginLookupCache;
+
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
-        Utilisateur utilisateur = utilisateurRepository.findByEmail(loginRequest.getEmail())
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        UtilisateurAuth utilisateur = loginLookupCache.findByEmail(loginRequest.getEmail())
                 .orElse(null);
 
-        if (utilisateur != null && utilisateur.getMotDePasse().equals(loginRequest.getMotDePasse())) {
-            String token = jwtUtil.generateToken(utilisateur.getEmail(), utilisateur.getRole().toString());
-            
-            LoginResponse response = new LoginResponse(
-                token,
-                utilisateur.getNom(),
-                utilisateur.getPrenom(),
-                utilisateur.getEmail(),
-                utilisateur.getRole().toString()
-            );
-            
-            return ResponseEntity.ok(response);
+        if (utilisateur == null) {
+            // hash anyway so that response times do not tell which emails have an account
+            return passwordHashingService.verifyUnknown(loginRequest.getMotDePasse())
+                    .thenApply(check -> invalidCredentials())
+                    .exceptionally(this::hashingUnavailable);
         }
+
+        return passwordHashingService.verify(loginRequest.getMotDePasse(), utilisateur.getMotDePasse())
+                .thenApply(check -> authenticated(utilisateur, check))
+                .exceptionally(this::hashingUnavailable);
+    }
+
+    private ResponseEntity<?> authenticated(UtilisateurAuth utilisateur, PasswordCheck check) {
+        if (!check.matches()) {
+            return invalidCredentials();
+        }
+
+        if (check.getUpgradedHash() != null) {
+            // bulk update skips the entity listeners, so evict the cached hash explicitly
+            utilisateurRepository.updateMotDePasse(utilisateur.getId(), check.getUpgradedHash());
+            loginLookupCache.evict(utilisateur.getEmail());
+        }
+
+        String token = jwtUtil.generateToken(utilisateur.getEmail(), utilisateur.getRole().toString());
         
+        LoginResponse response = new LoginResponse(
+            token,
+            utilisateur.getNom(),
+            utilisateur.getPrenom(),
+            utilisateur.getEmail(),
+            utilisateur.getRole().toString()
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<?> invalidCredentials() {
         return ResponseEntity.badRequest().body("Email ou mot de passe incorrect");
     }
+
+    private ResponseEntity<?> hashingUnavailable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RejectedExecutionException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Trop de connexions simultanées, veuillez réessayer");
+        }
+        throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(cause);
+    }
 }
@@ -0,0 +1,166 @@
+
+package com.forumemi.controller;
+
+import com.forumemi.dto.ConferenceResponse;
+import com.forumemi.dto.PlanificationRequest;
+import com.forumemi.dto.PlanificationResponse;
+import com.forumemi.model.Conference;
+import com.forumemi.model.Intervenant;
+import com.forumemi.model.Salle;
+import com.forumemi.repository.ConferenceRepository;
+import com.forumemi.repository.IntervenantRepository;
+import com.forumemi.repository.SalleRepository;
+import com.forumemi.service.ConferenceScheduler;
+import com.forumemi.service.SalleScheduleIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/conferences")
+@CrossOrigin(origins = "*")
+public class ConferenceController {
+
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+
+    @Autowired
+    private SalleRepository salleRepository;
+
+    @Autowired
+    private IntervenantRepository intervenantRepository;
+
+    @Autowired
+    private SalleScheduleIndex salleScheduleIndex;
+
+    @Autowired
+    private ConferenceScheduler conferenceScheduler;
+
+    @GetMapping
+    public List<ConferenceResponse> getAllConferences() {
+        return toResponses(conferenceRepository.findAllWithDetails());
+    }
+
+    @GetMapping("/programme")
+    public List<ConferenceResponse> getProgramme(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate jour) {
+        return toResponses(conferenceRepository.findProgramme(jour.atStartOfDay(), jour.plusDays(1).atStartOfDay()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ConferenceResponse> getConferenceById(@PathVariable Long id) {
+        return conferenceRepository.findWithDetailsById(id)
+                .map(conference -> ResponseEntity.ok().body(ConferenceResponse.from(conference)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<ConferenceResponse> createConference(@Valid @RequestBody Conference conference) {
+        if (!hasValidDates(conference) || !resolveReferences(conference, conference)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try (SalleScheduleIndex.Reservation reservation = reserverSalle(conference, null)) {
+            if (reservation == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            Conference savedConference = conferenceRepository.save(conference);
+            return ResponseEntity.ok(ConferenceResponse.from(savedConference));
+        }
+    }
+
+    @PostMapping("/planification")
+    public ResponseEntity<PlanificationResponse> planifier(@Valid @RequestBody PlanificationRequest request,
+                                                           @RequestParam(defaultValue = "false") boolean appliquer) {
+        if (!request.getFin().isAfter(request.getDebut())) {
+            return ResponseEntity.badRequest().build();
+        }
+        PlanificationResponse planification = conferenceScheduler.planifier(request);
+        // a room of the plan was booked in the meantime: nothing applied, the client plans again
+        if (appliquer && !conferenceScheduler.appliquer(planification)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(planification);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ConferenceResponse> updateConference(@PathVariable Long id, @Valid @RequestBody Conference conference) {
+        if (!hasValidDates(conference)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return conferenceRepository.findWithDetailsById(id)
+                .map(existingConference -> {
+                    if (!resolveReferences(conference, existingConference)) {
+                        return ResponseEntity.badRequest().<ConferenceResponse>build();
+                    }
+                    try (SalleScheduleIndex.Reservation reservation = reserverSalle(conference, id)) {
+                        if (reservation == null) {
+                            return ResponseEntity.badRequest().<ConferenceResponse>build();
+                        }
+                        existingConference.setTitre(conference.getTitre());
+                        existingConference.setDateDebut(conference.getDateDebut());
+                        existingConference.setDateFin(conference.getDateFin());
+                        return ResponseEntity.ok(ConferenceResponse.from(conferenceRepository.save(existingConference)));
+                    }
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteConference(@PathVariable Long id) {
+        return conferenceRepository.findById(id)
+                .map(conference -> {
+                    conferenceRepository.delete(conference);
+                    return ResponseEntity.ok().<Void>build();
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private boolean hasValidDates(Conference conference) {
+        return conference.getDateFin().isAfter(conference.getDateDebut());
+    }
+
+    // Checks and holds the room slot until the save has committed; null when the slot is taken.
+    private SalleScheduleIndex.Reservation reserverSalle(Conference conference, Long conferenceId) {
+        return salleScheduleIndex.reserver(conference.getSalle() != null ? conference.getSalle().getId() : null,
+                conference.getDateDebut(), conference.getDateFin(), conferenceId).orElse(null);
+    }
+
+    // Replaces the id-only salle/intervenants sent by the client with managed entities on target,
+    // so the response is built from complete data without lazy loading.
+    private boolean resolveReferences(Conference source, Conference target) {
+        Salle salle = null;
+        if (source.getSalle() != null) {
+            Optional<Salle> existingSalle = salleRepository.findById(source.getSalle().getId());
+            if (existingSalle.isEmpty()) {
+                return false;
+            }
+            salle = existingSalle.get();
+        }
+
+        List<Long> intervenantIds = source.getIntervenants() == null ? List.of() :
+                source.getIntervenants().stream()
+                        .map(Intervenant::getId)
+                        .distinct()
+                        .collect(Collectors.toList());
+        List<Intervenant> intervenants = intervenantRepository.findAllById(intervenantIds);
+        if (intervenants.size() != intervenantIds.size()) {
+            return false;
+        }
+
+        target.setSalle(salle);
+        target.setIntervenants(intervenants);
+        return true;
+    }
+
+    private List<ConferenceResponse> toResponses(List<Conference> conferences) {
+        return conferences.stream()
+                .map(ConferenceResponse::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,67 @@
+package com.forumemi.controller;
+
+import com.forumemi.dto.ContratResponse;
+import com.forumemi.model.Contrat;
+import com.forumemi.repository.ContratRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/contrats")
+@CrossOrigin(origins = "*")
+public class ContratController {
+
+    @Autowired
+    private ContratRepository contratRepository;
+
+    @GetMapping
+    public List<ContratResponse> getAllContrats() {
+        return contratRepository.findAllResponses();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ContratResponse> getContratById(@PathVariable String id) {
+        return contratRepository.findResponseById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<ContratResponse> createContrat(@Valid @RequestBody Contrat contrat) {
+        if (contrat.getId() == null || contrat.getId().isBlank() || contratRepository.existsById(contrat.getId())) {
+            return ResponseEntity.badRequest().build();
+        }
+        contrat.setPartenaire(null);
+        return ResponseEntity.ok(ContratResponse.from(contratRepository.save(contrat)));
+    }
+
+    // amendment: amount, type and date; the partenaire side is not changed here
+    @PutMapping("/{id}")
+    public ResponseEntity<ContratResponse> updateContrat(@PathVariable String id, @Valid @RequestBody Contrat contrat) {
+        return contratRepository.findById(id)
+                .map(existingContrat -> {
+                    existingContrat.setMontant(contrat.getMontant());
+                    existingContrat.setType(contrat.getType());
+                    existingContrat.setDate(contrat.getDate());
+                    return ResponseEntity.ok(ContratResponse.from(contratRepository.save(existingContrat)));
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteContrat(@PathVariable String id) {
+        return contratRepository.findById(id)
+                .map(contrat -> {
+                    // still referenced by its partenaire
+                    if (contrat.getPartenaire() != null) {
+                        return ResponseEntity.badRequest().<Void>build();
+                    }
+                    contratRepository.delete(contrat);
+                    return ResponseEntity.ok().<Void>build();
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,11 +1,18 @@
 
 package com.forumemi.controller;
 
+import com.forumemi.dto.EntrepriseResponse;
+import com.forumemi.dto.BulkResult;
+import com.forumemi.dto.KeysetPage;
 import com.forumemi.model.Entreprise;
 import com.forumemi.repository.EntrepriseRepository;
+import com.forumemi.service.BulkWriteService;
+import com.forumemi.service.KeysetPaginationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import java.util.List;
 
@@ -17,33 +24,53 @@ public class EntrepriseController {
     @Autowired
     private EntrepriseRepository entrepriseRepository;
 
+    @Autowired
+    private KeysetPaginationService keysetPaginationService;
+
+    @Autowired
+    private BulkWriteService bulkWriteService;
+
     @GetMapping
-    public List<Entreprise> getAllEntreprises() {
-        return entrepriseRepository.findAll();
+    public KeysetPage<EntrepriseResponse> getAllEntreprises(@RequestParam(required = false) Long after,
+                                                            @RequestParam(defaultValue = "100") int size) {
+        return keysetPaginationService.page(entrepriseRepository::findResponsesAfter, EntrepriseResponse::getId, after, size);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEntreprises(@RequestParam(defaultValue = "500") int batchSize) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(keysetPaginationService.stream(entrepriseRepository::findResponsesAfter, EntrepriseResponse::getId, batchSize));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Entreprise> getEntrepriseById(@PathVariable Long id) {
+    public ResponseEntity<EntrepriseResponse> getEntrepriseById(@PathVariable Long id) {
         return entrepriseRepository.findById(id)
-                .map(entreprise -> ResponseEntity.ok().body(entreprise))
+                .map(entreprise -> ResponseEntity.ok().body(EntrepriseResponse.from(entreprise)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping
-    public ResponseEntity<Entreprise> createEntreprise(@Valid @RequestBody Entreprise entreprise) {
+    public ResponseEntity<EntrepriseResponse> createEntreprise(@Valid @RequestBody Entreprise entreprise) {
         if (entrepriseRepository.existsByNom(entreprise.getNom())) {
             return ResponseEntity.badRequest().build();
         }
         Entreprise savedEntreprise = entrepriseRepository.save(entreprise);
-        return ResponseEntity.ok(savedEntreprise);
+        return ResponseEntity.ok(EntrepriseResponse.from(savedEntreprise));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResult<EntrepriseResponse>> createEntreprises(@RequestBody List<Entreprise> entreprises) {
+        BulkResult<EntrepriseResponse> result = bulkWriteService.createEntreprises(entreprises);
+        return result.hasErreurs() ? ResponseEntity.badRequest().body(result) : ResponseEntity.ok(result);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Entreprise> updateEntreprise(@PathVariable Long id, @Valid @RequestBody Entreprise entreprise) {
+    public ResponseEntity<EntrepriseResponse> updateEntreprise(@PathVariable Long id, @Valid @RequestBody Entreprise entreprise) {
         return entrepriseRepository.findById(id)
                 .map(existingEntreprise -> {
                     existingEntreprise.setNom(entreprise.getNom());
-                    return ResponseEntity.ok(entrepriseRepository.save(existingEntreprise));
+                    return ResponseEntity.ok(EntrepriseResponse.from(entrepriseRepository.save(existingEntreprise)));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -0,0 +1,59 @@
+package com.forumemi.controller;
+
+import com.forumemi.service.ExportService;
+import com.forumemi.service.ExportService.ExportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping("/stands")
+    public ResponseEntity<StreamingResponseBody> exportStands(@RequestParam(defaultValue = "csv") String format) {
+        return export("stands", format, exportService::exportStands);
+    }
+
+    @GetMapping("/taches")
+    public ResponseEntity<StreamingResponseBody> exportTaches(@RequestParam(defaultValue = "csv") String format) {
+        return export("taches", format, exportService::exportTaches);
+    }
+
+    @GetMapping("/contrats")
+    public ResponseEntity<StreamingResponseBody> exportContrats(@RequestParam(defaultValue = "csv") String format) {
+        return export("contrats", format, exportService::exportContrats);
+    }
+
+    // The body runs on the async executor, outside the request's persistence context; each export
+    // method opens its own read-only transaction there.
+    private ResponseEntity<StreamingResponseBody> export(String nom, String format, Export export) {
+        Optional<ExportFormat> exportFormat = ExportFormat.fromParam(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean csv = exportFormat.get() == ExportFormat.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nom + (csv ? ".csv" : ".ndjson") + "\"")
+                .body(outputStream -> export.write(exportFormat.get(), outputStream));
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        void write(ExportFormat format, OutputStream output) throws IOException;
+    }
+}
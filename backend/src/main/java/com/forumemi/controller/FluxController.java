@@ -0,0 +1,50 @@
+package com.forumemi.controller;
+
+import com.forumemi.security.JwtAuthenticationFilter;
+import com.forumemi.security.TokenClaims;
+import com.forumemi.service.ChangeBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/flux")
+@CrossOrigin(origins = "*")
+public class FluxController {
+
+    private static final Set<String> TOPICS = Set.of(ChangeBroadcaster.TOPIC_STANDS, ChangeBroadcaster.TOPIC_TACHES,
+            ChangeBroadcaster.TOPIC_ECHEANCES);
+
+    @Autowired
+    private ChangeBroadcaster changeBroadcaster;
+
+    // Server-Sent Events: one "stands" or "taches" event per committed change, one "echeances" event when a
+    // task becomes due soon or overdue, "resync" when the client must reload the full lists (it fell
+    // behind, or reconnected after missing events). "echeances" only carries the subscriber's own tasks.
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam(required = false) List<String> topics,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                @RequestAttribute(name = JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, required = false) TokenClaims claims) {
+        Set<String> selected = topics == null || topics.isEmpty() ? TOPICS : new HashSet<>(topics);
+        if (!TOPICS.containsAll(selected)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok()
+                    // stops nginx-style proxies from buffering the stream
+                    .header("X-Accel-Buffering", "no")
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .body(changeBroadcaster.subscribe(selected, claims != null ? claims.getEmail() : null, lastEventId));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.forumemi.controller;
+
+import com.forumemi.service.CsvImportService;
+import com.forumemi.service.CsvImportService.ImportType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/import")
+@CrossOrigin(origins = "*")
+public class ImportController {
+
+    @Autowired
+    private CsvImportService csvImportService;
+
+    // The CSV is the raw request body (text/csv), read as it arrives; the response is an NDJSON stream
+    // of rejected lines followed by a summary. Excel files should be exported as CSV (";" separator).
+    @PostMapping("/{type}")
+    public void importer(@PathVariable String type,
+                         @RequestParam(defaultValue = ",") char separateur,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Optional<ImportType> importType = ImportType.fromPath(type);
+        if (importType.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Type d'import inconnu: " + type);
+            return;
+        }
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try {
+            csvImportService.importer(importType.get(), request.getInputStream(), charset, separateur,
+                    response.getOutputStream());
+        } catch (RejectedExecutionException e) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage());
+        }
+    }
+}
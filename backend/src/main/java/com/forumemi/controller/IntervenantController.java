@@ -0,0 +1,119 @@
+package com.forumemi.controller;
+
+import com.forumemi.dto.IntervenantResponse;
+import com.forumemi.dto.KeysetPage;
+import com.forumemi.dto.RechercheIntervenants;
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Intervenant;
+import com.forumemi.repository.ConferenceRepository;
+import com.forumemi.repository.EntrepriseRepository;
+import com.forumemi.repository.IntervenantRepository;
+import com.forumemi.service.IntervenantSearchIndex;
+import com.forumemi.service.KeysetPaginationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/intervenants")
+@CrossOrigin(origins = "*")
+public class IntervenantController {
+
+    @Autowired
+    private IntervenantRepository intervenantRepository;
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+
+    @Autowired
+    private KeysetPaginationService keysetPaginationService;
+
+    @Autowired
+    private IntervenantSearchIndex intervenantSearchIndex;
+
+    @GetMapping
+    public KeysetPage<IntervenantResponse> getAllIntervenants(@RequestParam(required = false) Long after,
+                                                              @RequestParam(defaultValue = "100") int size) {
+        return keysetPaginationService.page(intervenantRepository::findResponsesAfter, IntervenantResponse::getId, after, size);
+    }
+
+    // e.g. /api/intervenants/recherche?q=cloud secu&entrepriseId=3
+    @GetMapping("/recherche")
+    public RechercheIntervenants rechercher(@RequestParam(required = false) String q,
+                                            @RequestParam(required = false) Long entrepriseId,
+                                            @RequestParam(required = false) String specialite,
+                                            @RequestParam(defaultValue = "20") int limit) {
+        return intervenantSearchIndex.search(q, entrepriseId, specialite, limit);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<IntervenantResponse> getIntervenantById(@PathVariable Long id) {
+        return intervenantRepository.findById(id)
+                .map(intervenant -> ResponseEntity.ok(IntervenantResponse.from(intervenant)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<IntervenantResponse> createIntervenant(@Valid @RequestBody Intervenant intervenant) {
+        if (intervenant.getEmail() != null && intervenantRepository.existsByEmail(intervenant.getEmail())) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!resolveEntreprise(intervenant)) {
+            return ResponseEntity.badRequest().build();
+        }
+        intervenant.setId(null);
+        return ResponseEntity.ok(IntervenantResponse.from(intervenantRepository.save(intervenant)));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<IntervenantResponse> updateIntervenant(@PathVariable Long id, @Valid @RequestBody Intervenant intervenant) {
+        // the email may stay the same, but not be taken over from another speaker
+        if (intervenant.getEmail() != null && intervenantRepository.existsByEmailAndIdNot(intervenant.getEmail(), id)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!resolveEntreprise(intervenant)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return intervenantRepository.findById(id)
+                .map(existingIntervenant -> {
+                    existingIntervenant.setNom(intervenant.getNom());
+                    existingIntervenant.setBiographie(intervenant.getBiographie());
+                    existingIntervenant.setSpecialite(intervenant.getSpecialite());
+                    existingIntervenant.setEmail(intervenant.getEmail());
+                    existingIntervenant.setTelephone(intervenant.getTelephone());
+                    existingIntervenant.setEntreprise(intervenant.getEntreprise());
+                    return ResponseEntity.ok(IntervenantResponse.from(intervenantRepository.save(existingIntervenant)));
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteIntervenant(@PathVariable Long id) {
+        // still listed on a conference: the programme has to be changed first
+        if (conferenceRepository.existsByIntervenantsId(id)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return intervenantRepository.findById(id)
+                .map(intervenant -> {
+                    intervenantRepository.delete(intervenant);
+                    return ResponseEntity.ok().<Void>build();
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Replaces the id-only entreprise sent by the client with the managed one (or none); false when the id is unknown.
+    private boolean resolveEntreprise(Intervenant intervenant) {
+        if (intervenant.getEntreprise() == null || intervenant.getEntreprise().getId() == null) {
+            intervenant.setEntreprise(null);
+            return true;
+        }
+        Optional<Entreprise> entreprise = entrepriseRepository.findById(intervenant.getEntreprise().getId());
+        entreprise.ifPresent(intervenant::setEntreprise);
+        return entreprise.isPresent();
+    }
+}
@@ -0,0 +1,55 @@
+
+package com.forumemi.controller;
+
+import com.forumemi.dto.SalleResponse;
+import com.forumemi.repository.SalleRepository;
+import com.forumemi.service.SalleScheduleIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/salles")
+@CrossOrigin(origins = "*")
+public class SalleController {
+
+    @Autowired
+    private SalleRepository salleRepository;
+
+    @Autowired
+    private SalleScheduleIndex salleScheduleIndex;
+
+    @GetMapping
+    public List<SalleResponse> getAllSalles() {
+        return salleRepository.findAll().stream()
+                .map(SalleResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @GetMapping("/{id}/disponibilite")
+    public ResponseEntity<Boolean> isSalleDisponible(@PathVariable Long id,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime debut,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fin) {
+        if (!fin.isAfter(debut)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!salleScheduleIndex.isKnownSalle(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(salleScheduleIndex.isFree(id, debut, fin));
+    }
+
+    @GetMapping("/disponibles")
+    public ResponseEntity<List<SalleResponse>> getSallesDisponibles(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime debut,
+                                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fin,
+                                                                    @RequestParam(defaultValue = "1") int capaciteMin) {
+        if (!fin.isAfter(debut)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(salleScheduleIndex.findFreeSalles(debut, fin, capaciteMin));
+    }
+}
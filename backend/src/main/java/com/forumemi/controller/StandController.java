@@ -1,11 +1,24 @@
 
 package com.forumemi.controller;
 
+import com.forumemi.dto.BulkResult;
+import com.forumemi.dto.DisponibiliteResponse;
+import com.forumemi.dto.KeysetPage;
+import com.forumemi.dto.ReservationRequest;
+import com.forumemi.dto.StandResponse;
 import com.forumemi.model.Stand;
 import com.forumemi.repository.StandRepository;
+import com.forumemi.service.BulkWriteService;
+import com.forumemi.service.KeysetPaginationService;
+import com.forumemi.service.StandAvailabilityIndex;
+import com.forumemi.service.StandReservationService;
+import com.forumemi.service.StandReservationService.ReservationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import java.util.List;
 
@@ -17,36 +30,105 @@ public class StandController {
     @Autowired
     private StandRepository standRepository;
 
+    @Autowired
+    private KeysetPaginationService keysetPaginationService;
+
+    @Autowired
+    private BulkWriteService bulkWriteService;
+
+    @Autowired
+    private StandReservationService standReservationService;
+
+    @Autowired
+    private StandAvailabilityIndex standAvailabilityIndex;
+
     @GetMapping
-    public List<Stand> getAllStands() {
-        return standRepository.findAll();
+    public KeysetPage<StandResponse> getAllStands(@RequestParam(required = false) Long after,
+                                                  @RequestParam(defaultValue = "100") int size) {
+        return keysetPaginationService.page(standRepository::findResponsesAfter, StandResponse::getId, after, size);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStands(@RequestParam(defaultValue = "500") int batchSize) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(keysetPaginationService.stream(standRepository::findResponsesAfter, StandResponse::getId, batchSize));
     }
 
     @GetMapping("/zone/{zone}")
-    public List<Stand> getStandsByZone(@PathVariable String zone) {
+    public List<StandResponse> getStandsByZone(@PathVariable String zone) {
         return standRepository.findByZone(zone);
     }
 
+    @GetMapping("/disponibilite")
+    public List<DisponibiliteResponse> getDisponibilites(@RequestParam(required = false) String zone) {
+        return standAvailabilityIndex.getDisponibilites(zone);
+    }
+
+    @GetMapping("/disponibilite/{zone}/{taille}")
+    public ResponseEntity<DisponibiliteResponse> getDisponibilite(@PathVariable String zone, @PathVariable Stand.TailleStand taille) {
+        return standAvailabilityIndex.getDisponibilite(zone, taille)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/disponibilite/{zone}/{taille}/libres")
+    public int[] getNumerosLibres(@PathVariable String zone, @PathVariable Stand.TailleStand taille,
+                                  @RequestParam(defaultValue = "100") int limit) {
+        return standAvailabilityIndex.findNumeros(zone, taille, Stand.StatutStand.LIBRE, limit);
+    }
+
     @PostMapping
-    public ResponseEntity<Stand> createStand(@Valid @RequestBody Stand stand) {
+    public ResponseEntity<StandResponse> createStand(@Valid @RequestBody Stand stand) {
         if (standRepository.existsByNumero(stand.getNumero())) {
             return ResponseEntity.badRequest().build();
         }
+        stand.setVersion(null);
         Stand savedStand = standRepository.save(stand);
-        return ResponseEntity.ok(savedStand);
+        return ResponseEntity.ok(StandResponse.from(savedStand));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResult<StandResponse>> createStands(@RequestBody List<Stand> stands) {
+        BulkResult<StandResponse> result = bulkWriteService.createStands(stands);
+        return result.hasErreurs() ? ResponseEntity.badRequest().body(result) : ResponseEntity.ok(result);
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkResult<StandResponse>> updateStands(@RequestBody List<Stand> stands) {
+        BulkResult<StandResponse> result = bulkWriteService.updateStands(stands);
+        return result.hasErreurs() ? ResponseEntity.badRequest().body(result) : ResponseEntity.ok(result);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Stand> updateStand(@PathVariable Long id, @Valid @RequestBody Stand stand) {
-        return standRepository.findById(id)
-                .map(existingStand -> {
-                    existingStand.setStatut(stand.getStatut());
-                    existingStand.setEntreprise(stand.getEntreprise());
-                    return ResponseEntity.ok(standRepository.save(existingStand));
-                })
+    public ResponseEntity<StandResponse> updateStand(@PathVariable Long id, @Valid @RequestBody Stand stand) {
+        return standReservationService.update(id, stand)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/reservation")
+    public StandResponse reserveAnyStand(@RequestParam Stand.TailleStand taille,
+                                         @RequestParam(required = false) String zone,
+                                         @RequestBody ReservationRequest request) {
+        return standReservationService.reserveAny(taille, zone, request.getEntrepriseId());
+    }
+
+    @PostMapping("/{id}/reservation")
+    public StandResponse reserveStand(@PathVariable Long id, @RequestBody ReservationRequest request) {
+        return standReservationService.reserve(id, request.getEntrepriseId());
+    }
+
+    @PostMapping("/{id}/confirmation")
+    public StandResponse confirmStand(@PathVariable Long id, @RequestBody ReservationRequest request) {
+        return standReservationService.confirm(id, request.getEntrepriseId());
+    }
+
+    @DeleteMapping("/{id}/reservation")
+    public StandResponse releaseStand(@PathVariable Long id, @RequestParam Long entrepriseId) {
+        return standReservationService.release(id, entrepriseId);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteStand(@PathVariable Long id) {
         return standRepository.findById(id)
@@ -56,4 +138,14 @@ public class StandController {
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    @ExceptionHandler(ReservationException.class)
+    public ResponseEntity<String> handleReservationException(ReservationException e) {
+        HttpStatus status = switch (e.getRaison()) {
+            case INTROUVABLE -> HttpStatus.NOT_FOUND;
+            case INVALIDE -> HttpStatus.BAD_REQUEST;
+            case CONFLIT -> HttpStatus.CONFLICT;
+        };
+        return ResponseEntity.status(status).body(e.getMessage());
+    }
 }
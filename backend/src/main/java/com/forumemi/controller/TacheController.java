@@ -1,11 +1,21 @@
 
 package com.forumemi.controller;
 
+import com.forumemi.dto.ChargeMembre;
+import com.forumemi.dto.EcheanceResponse;
+import com.forumemi.dto.KeysetPage;
+import com.forumemi.dto.ReequilibrageResponse;
+import com.forumemi.dto.TacheResponse;
 import com.forumemi.model.Tache;
 import com.forumemi.repository.TacheRepository;
+import com.forumemi.service.KeysetPaginationService;
+import com.forumemi.service.TacheAffectationService;
+import com.forumemi.service.TacheEcheanceScheduler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import java.util.List;
 
@@ -17,33 +27,79 @@ public class TacheController {
     @Autowired
     private TacheRepository tacheRepository;
 
+    @Autowired
+    private KeysetPaginationService keysetPaginationService;
+
+    @Autowired
+    private TacheEcheanceScheduler tacheEcheanceScheduler;
+
+    @Autowired
+    private TacheAffectationService tacheAffectationService;
+
     @GetMapping
-    public List<Tache> getAllTaches() {
-        return tacheRepository.findAll();
+    public KeysetPage<TacheResponse> getAllTaches(@RequestParam(required = false) Long after,
+                                                  @RequestParam(defaultValue = "100") int size) {
+        return keysetPaginationService.page(tacheRepository::findResponsesAfter, TacheResponse::getId, after, size);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTaches(@RequestParam(defaultValue = "500") int batchSize) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(keysetPaginationService.stream(tacheRepository::findResponsesAfter, TacheResponse::getId, batchSize));
+    }
+
+    // open tasks that are due soon or overdue, from memory
+    @GetMapping("/echeances")
+    public List<EcheanceResponse> getEcheances(@RequestParam(required = false) Long responsableId) {
+        return tacheEcheanceScheduler.getEcheances(responsableId);
+    }
+
+    // load score of each equipier, from memory
+    @GetMapping("/charges")
+    public List<ChargeMembre> getCharges() {
+        return tacheAffectationService.getCharges();
+    }
+
+    @PostMapping("/affectation")
+    public ReequilibrageResponse affecterNonAffectees() {
+        return tacheAffectationService.affecterNonAffectees();
+    }
+
+    @PostMapping("/reequilibrage")
+    public ReequilibrageResponse reequilibrer(@RequestParam(defaultValue = "false") boolean appliquer) {
+        return tacheAffectationService.reequilibrer(appliquer);
+    }
+
+    @PostMapping("/{id}/affectation")
+    public ResponseEntity<TacheResponse> affecter(@PathVariable Long id) {
+        return tacheAffectationService.affecter(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Tache> getTacheById(@PathVariable Long id) {
+    public ResponseEntity<TacheResponse> getTacheById(@PathVariable Long id) {
         return tacheRepository.findById(id)
-                .map(tache -> ResponseEntity.ok().body(tache))
+                .map(tache -> ResponseEntity.ok().body(TacheResponse.from(tache)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping
-    public ResponseEntity<Tache> createTache(@Valid @RequestBody Tache tache) {
-        Tache savedTache = tacheRepository.save(tache);
-        return ResponseEntity.ok(savedTache);
+    public ResponseEntity<TacheResponse> createTache(@Valid @RequestBody Tache tache) {
+        // without a responsable, the least-loaded equipier is set before the INSERT
+        return ResponseEntity.ok(tacheAffectationService.creer(tache));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Tache> updateTache(@PathVariable Long id, @Valid @RequestBody Tache tache) {
+    public ResponseEntity<TacheResponse> updateTache(@PathVariable Long id, @Valid @RequestBody Tache tache) {
         return tacheRepository.findById(id)
                 .map(existingTache -> {
                     existingTache.setDescription(tache.getDescription());
                     existingTache.setStatut(tache.getStatut());
                     existingTache.setDateLimite(tache.getDateLimite());
                     existingTache.setPriorite(tache.getPriorite());
-                    return ResponseEntity.ok(tacheRepository.save(existingTache));
+                    return ResponseEntity.ok(TacheResponse.from(tacheRepository.save(existingTache)));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -0,0 +1,26 @@
+
+package com.forumemi.dto;
+
+import java.util.List;
+
+public class BulkResult<T> {
+    private List<T> elements;
+    private List<LigneErreur> erreurs;
+
+    public BulkResult() {}
+
+    public BulkResult(List<T> elements, List<LigneErreur> erreurs) {
+        this.elements = elements;
+        this.erreurs = erreurs;
+    }
+
+    public boolean hasErreurs() {
+        return erreurs != null && !erreurs.isEmpty();
+    }
+
+    public List<T> getElements() { return elements; }
+    public void setElements(List<T> elements) { this.elements = elements; }
+    
+    public List<LigneErreur> getErreurs() { return erreurs; }
+    public void setErreurs(List<LigneErreur> erreurs) { this.erreurs = erreurs; }
+}
@@ -0,0 +1,39 @@
+package com.forumemi.dto;
+
+public class CacheRegionStats {
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long elementsEnMemoire;
+    private double hitRatio;
+
+    public CacheRegionStats() {}
+
+    public CacheRegionStats(String region, long hits, long misses, long puts, long elementsEnMemoire) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.elementsEnMemoire = elementsEnMemoire;
+        this.hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public String getRegion() { return region; }
+    public void setRegion(String region) { this.region = region; }
+    
+    public long getHits() { return hits; }
+    public void setHits(long hits) { this.hits = hits; }
+    
+    public long getMisses() { return misses; }
+    public void setMisses(long misses) { this.misses = misses; }
+    
+    public long getPuts() { return puts; }
+    public void setPuts(long puts) { this.puts = puts; }
+    
+    public long getElementsEnMemoire() { return elementsEnMemoire; }
+    public void setElementsEnMemoire(long elementsEnMemoire) { this.elementsEnMemoire = elementsEnMemoire; }
+    
+    public double getHitRatio() { return hitRatio; }
+    public void setHitRatio(double hitRatio) { this.hitRatio = hitRatio; }
+}
@@ -0,0 +1,39 @@
+package com.forumemi.dto;
+
+public class ChargeMembre {
+    private Long membreId;
+    private String nom;
+    private String prenom;
+    private int tachesOuvertes;
+    private int tachesEnRetard;
+    private double score;
+
+    public ChargeMembre() {}
+
+    public ChargeMembre(Long membreId, String nom, String prenom, int tachesOuvertes, int tachesEnRetard, double score) {
+        this.membreId = membreId;
+        this.nom = nom;
+        this.prenom = prenom;
+        this.tachesOuvertes = tachesOuvertes;
+        this.tachesEnRetard = tachesEnRetard;
+        this.score = score;
+    }
+
+    public Long getMembreId() { return membreId; }
+    public void setMembreId(Long membreId) { this.membreId = membreId; }
+    
+    public String getNom() { return nom; }
+    public void setNom(String nom) { this.nom = nom; }
+    
+    public String getPrenom() { return prenom; }
+    public void setPrenom(String prenom) { this.prenom = prenom; }
+    
+    public int getTachesOuvertes() { return tachesOuvertes; }
+    public void setTachesOuvertes(int tachesOuvertes) { this.tachesOuvertes = tachesOuvertes; }
+    
+    public int getTachesEnRetard() { return tachesEnRetard; }
+    public void setTachesEnRetard(int tachesEnRetard) { this.tachesEnRetard = tachesEnRetard; }
+    
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
@@ -0,0 +1,11 @@
+
+package com.forumemi.dto;
+
+import java.time.LocalDateTime;
+
+public interface ConferenceCreneau {
+    Long getId();
+    Long getSalleId();
+    LocalDateTime getDateDebut();
+    LocalDateTime getDateFin();
+}
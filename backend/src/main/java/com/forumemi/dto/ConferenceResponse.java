@@ -0,0 +1,76 @@
+
+package com.forumemi.dto;
+
+import com.forumemi.model.Conference;
+import com.forumemi.model.Salle;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ConferenceResponse {
+    private Long id;
+    private String titre;
+    private LocalDateTime dateDebut;
+    private LocalDateTime dateFin;
+    private Long salleId;
+    private Integer salleNumero;
+    private Integer salleCapacite;
+    private List<IntervenantResponse> intervenants;
+
+    public ConferenceResponse() {}
+
+    public ConferenceResponse(Long id, String titre, LocalDateTime dateDebut, LocalDateTime dateFin, Long salleId,
+                              Integer salleNumero, Integer salleCapacite, List<IntervenantResponse> intervenants) {
+        this.id = id;
+        this.titre = titre;
+        this.dateDebut = dateDebut;
+        this.dateFin = dateFin;
+        this.salleId = salleId;
+        this.salleNumero = salleNumero;
+        this.salleCapacite = salleCapacite;
+        this.intervenants = intervenants;
+    }
+
+    // Expects salle and intervenants to be fetched already (see ConferenceRepository entity graphs).
+    public static ConferenceResponse from(Conference conference) {
+        Salle salle = conference.getSalle();
+        List<IntervenantResponse> intervenants = conference.getIntervenants() == null ? List.of() :
+                conference.getIntervenants().stream()
+                        .map(IntervenantResponse::from)
+                        .collect(Collectors.toList());
+        return new ConferenceResponse(
+            conference.getId(),
+            conference.getTitre(),
+            conference.getDateDebut(),
+            conference.getDateFin(),
+            salle != null ? salle.getId() : null,
+            salle != null ? salle.getNumero() : null,
+            salle != null ? salle.getCapacite() : null,
+            intervenants
+        );
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getTitre() { return titre; }
+    public void setTitre(String titre) { this.titre = titre; }
+    
+    public LocalDateTime getDateDebut() { return dateDebut; }
+    public void setDateDebut(LocalDateTime dateDebut) { this.dateDebut = dateDebut; }
+    
+    public LocalDateTime getDateFin() { return dateFin; }
+    public void setDateFin(LocalDateTime dateFin) { this.dateFin = dateFin; }
+    
+    public Long getSalleId() { return salleId; }
+    public void setSalleId(Long salleId) { this.salleId = salleId; }
+    
+    public Integer getSalleNumero() { return salleNumero; }
+    public void setSalleNumero(Integer salleNumero) { this.salleNumero = salleNumero; }
+    
+    public Integer getSalleCapacite() { return salleCapacite; }
+    public void setSalleCapacite(Integer salleCapacite) { this.salleCapacite = salleCapacite; }
+    
+    public List<IntervenantResponse> getIntervenants() { return intervenants; }
+    public void setIntervenants(List<IntervenantResponse> intervenants) { this.intervenants = intervenants; }
+}
@@ -0,0 +1,13 @@
+package com.forumemi.dto;
+
+import com.forumemi.model.TypeContrat;
+import java.time.LocalDate;
+
+public interface ContratFait {
+    String getId();
+    Double getMontant();
+    TypeContrat getType();
+    LocalDate getDate();
+    Long getPartenaireId();
+    Long getEvenementId();
+}
@@ -0,0 +1,56 @@
+package com.forumemi.dto;
+
+import com.forumemi.model.Contrat;
+import com.forumemi.model.Partenaire;
+import com.forumemi.model.TypeContrat;
+import java.time.LocalDate;
+
+public class ContratResponse {
+    private String id;
+    private Double montant;
+    private TypeContrat type;
+    private LocalDate date;
+    private Long partenaireId;
+    private String partenaireNom;
+
+    public ContratResponse() {}
+
+    public ContratResponse(String id, Double montant, TypeContrat type, LocalDate date, Long partenaireId, String partenaireNom) {
+        this.id = id;
+        this.montant = montant;
+        this.type = type;
+        this.date = date;
+        this.partenaireId = partenaireId;
+        this.partenaireNom = partenaireNom;
+    }
+
+    public static ContratResponse from(Contrat contrat) {
+        Partenaire partenaire = contrat.getPartenaire();
+        return new ContratResponse(
+            contrat.getId(),
+            contrat.getMontant(),
+            contrat.getType(),
+            contrat.getDate(),
+            partenaire != null ? partenaire.getId() : null,
+            partenaire != null ? partenaire.getNom() : null
+        );
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    
+    public Double getMontant() { return montant; }
+    public void setMontant(Double montant) { this.montant = montant; }
+    
+    public TypeContrat getType() { return type; }
+    public void setType(TypeContrat type) { this.type = type; }
+    
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+    
+    public Long getPartenaireId() { return partenaireId; }
+    public void setPartenaireId(Long partenaireId) { this.partenaireId = partenaireId; }
+    
+    public String getPartenaireNom() { return partenaireNom; }
+    public void setPartenaireNom(String partenaireNom) { this.partenaireNom = partenaireNom; }
+}
@@ -0,0 +1,36 @@
+package com.forumemi.dto;
+
+import com.forumemi.model.Stand;
+
+public class DisponibiliteResponse {
+    private String zone;
+    private Stand.TailleStand taille;
+    private int libres;
+    private int reserves;
+    private int occupes;
+
+    public DisponibiliteResponse() {}
+
+    public DisponibiliteResponse(String zone, Stand.TailleStand taille, int libres, int reserves, int occupes) {
+        this.zone = zone;
+        this.taille = taille;
+        this.libres = libres;
+        this.reserves = reserves;
+        this.occupes = occupes;
+    }
+
+    public String getZone() { return zone; }
+    public void setZone(String zone) { this.zone = zone; }
+    
+    public Stand.TailleStand getTaille() { return taille; }
+    public void setTaille(Stand.TailleStand taille) { this.taille = taille; }
+    
+    public int getLibres() { return libres; }
+    public void setLibres(int libres) { this.libres = libres; }
+    
+    public int getReserves() { return reserves; }
+    public void setReserves(int reserves) { this.reserves = reserves; }
+    
+    public int getOccupes() { return occupes; }
+    public void setOccupes(int occupes) { this.occupes = occupes; }
+}
@@ -0,0 +1,21 @@
+package com.forumemi.dto;
+
+import java.util.List;
+
+public class EchantillonnageTrace {
+    private double taux;
+    private List<String> loggers;
+
+    public EchantillonnageTrace() {}
+
+    public EchantillonnageTrace(double taux, List<String> loggers) {
+        this.taux = taux;
+        this.loggers = loggers;
+    }
+
+    public double getTaux() { return taux; }
+    public void setTaux(double taux) { this.taux = taux; }
+    
+    public List<String> getLoggers() { return loggers; }
+    public void setLoggers(List<String> loggers) { this.loggers = loggers; }
+}
@@ -0,0 +1,38 @@
+package com.forumemi.dto;
+
+import com.forumemi.event.TacheEcheanceEvent;
+import com.forumemi.model.Tache;
+import java.time.LocalDate;
+
+public class EcheanceResponse {
+    private Long tacheId;
+    private LocalDate dateLimite;
+    private Tache.PrioriteTache priorite;
+    private Long responsableId;
+    private TacheEcheanceEvent.Etat etat;
+
+    public EcheanceResponse() {}
+
+    public EcheanceResponse(Long tacheId, LocalDate dateLimite, Tache.PrioriteTache priorite, Long responsableId, TacheEcheanceEvent.Etat etat) {
+        this.tacheId = tacheId;
+        this.dateLimite = dateLimite;
+        this.priorite = priorite;
+        this.responsableId = responsableId;
+        this.etat = etat;
+    }
+
+    public Long getTacheId() { return tacheId; }
+    public void setTacheId(Long tacheId) { this.tacheId = tacheId; }
+    
+    public LocalDate getDateLimite() { return dateLimite; }
+    public void setDateLimite(LocalDate dateLimite) { this.dateLimite = dateLimite; }
+    
+    public Tache.PrioriteTache getPriorite() { return priorite; }
+    public void setPriorite(Tache.PrioriteTache priorite) { this.priorite = priorite; }
+    
+    public Long getResponsableId() { return responsableId; }
+    public void setResponsableId(Long responsableId) { this.responsableId = responsableId; }
+    
+    public TacheEcheanceEvent.Etat getEtat() { return etat; }
+    public void setEtat(TacheEcheanceEvent.Etat etat) { this.etat = etat; }
+}
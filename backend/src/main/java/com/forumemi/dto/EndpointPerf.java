@@ -0,0 +1,54 @@
+package com.forumemi.dto;
+
+public class EndpointPerf {
+    private String endpoint;
+    private int statut;
+    private long requetes;
+    private double moyenneMs;
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double maxMs;
+    private double requetesSqlMoyenne;
+    private long requetesSqlMax;
+    private long suspicionsNPlusUn;
+    private String exempleNPlusUn;
+
+    public EndpointPerf() {}
+
+    public String getEndpoint() { return endpoint; }
+    public void setEndpoint(String endpoint) { this.endpoint = endpoint; }
+    
+    public int getStatut() { return statut; }
+    public void setStatut(int statut) { this.statut = statut; }
+    
+    public long getRequetes() { return requetes; }
+    public void setRequetes(long requetes) { this.requetes = requetes; }
+    
+    public double getMoyenneMs() { return moyenneMs; }
+    public void setMoyenneMs(double moyenneMs) { this.moyenneMs = moyenneMs; }
+    
+    public double getP50Ms() { return p50Ms; }
+    public void setP50Ms(double p50Ms) { this.p50Ms = p50Ms; }
+    
+    public double getP90Ms() { return p90Ms; }
+    public void setP90Ms(double p90Ms) { this.p90Ms = p90Ms; }
+    
+    public double getP99Ms() { return p99Ms; }
+    public void setP99Ms(double p99Ms) { this.p99Ms = p99Ms; }
+    
+    public double getMaxMs() { return maxMs; }
+    public void setMaxMs(double maxMs) { this.maxMs = maxMs; }
+    
+    public double getRequetesSqlMoyenne() { return requetesSqlMoyenne; }
+    public void setRequetesSqlMoyenne(double requetesSqlMoyenne) { this.requetesSqlMoyenne = requetesSqlMoyenne; }
+    
+    public long getRequetesSqlMax() { return requetesSqlMax; }
+    public void setRequetesSqlMax(long requetesSqlMax) { this.requetesSqlMax = requetesSqlMax; }
+    
+    public long getSuspicionsNPlusUn() { return suspicionsNPlusUn; }
+    public void setSuspicionsNPlusUn(long suspicionsNPlusUn) { this.suspicionsNPlusUn = suspicionsNPlusUn; }
+    
+    public String getExempleNPlusUn() { return exempleNPlusUn; }
+    public void setExempleNPlusUn(String exempleNPlusUn) { this.exempleNPlusUn = exempleNPlusUn; }
+}
@@ -0,0 +1,26 @@
+
+package com.forumemi.dto;
+
+import com.forumemi.model.Entreprise;
+
+public class EntrepriseResponse {
+    private Long id;
+    private String nom;
+
+    public EntrepriseResponse() {}
+
+    public EntrepriseResponse(Long id, String nom) {
+        this.id = id;
+        this.nom = nom;
+    }
+
+    public static EntrepriseResponse from(Entreprise entreprise) {
+        return new EntrepriseResponse(entreprise.getId(), entreprise.getNom());
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getNom() { return nom; }
+    public void setNom(String nom) { this.nom = nom; }
+}
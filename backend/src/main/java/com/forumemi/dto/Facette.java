@@ -0,0 +1,24 @@
+package com.forumemi.dto;
+
+public class Facette {
+    private Long id;
+    private String valeur;
+    private long nombre;
+
+    public Facette() {}
+
+    public Facette(Long id, String valeur, long nombre) {
+        this.id = id;
+        this.valeur = valeur;
+        this.nombre = nombre;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getValeur() { return valeur; }
+    public void setValeur(String valeur) { this.valeur = valeur; }
+    
+    public long getNombre() { return nombre; }
+    public void setNombre(long nombre) { this.nombre = nombre; }
+}
@@ -0,0 +1,34 @@
+package com.forumemi.dto;
+
+public class ImportResume {
+    private String type;
+    private long lignes;
+    private long importees;
+    private long rejetees;
+    private boolean interrompu;
+
+    public ImportResume() {}
+
+    public ImportResume(String type, long lignes, long importees, long rejetees, boolean interrompu) {
+        this.type = type;
+        this.lignes = lignes;
+        this.importees = importees;
+        this.rejetees = rejetees;
+        this.interrompu = interrompu;
+    }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public long getLignes() { return lignes; }
+    public void setLignes(long lignes) { this.lignes = lignes; }
+    
+    public long getImportees() { return importees; }
+    public void setImportees(long importees) { this.importees = importees; }
+    
+    public long getRejetees() { return rejetees; }
+    public void setRejetees(long rejetees) { this.rejetees = rejetees; }
+    
+    public boolean isInterrompu() { return interrompu; }
+    public void setInterrompu(boolean interrompu) { this.interrompu = interrompu; }
+}
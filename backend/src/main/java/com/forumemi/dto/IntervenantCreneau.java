@@ -0,0 +1,11 @@
+
+package com.forumemi.dto;
+
+import java.time.LocalDateTime;
+
+public interface IntervenantCreneau {
+    Long getConferenceId();
+    Long getIntervenantId();
+    LocalDateTime getDateDebut();
+    LocalDateTime getDateFin();
+}
@@ -0,0 +1,10 @@
+package com.forumemi.dto;
+
+public interface IntervenantDocument {
+    Long getId();
+    String getNom();
+    String getBiographie();
+    String getSpecialite();
+    Long getEntrepriseId();
+    String getEntrepriseNom();
+}
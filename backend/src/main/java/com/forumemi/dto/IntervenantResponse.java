@@ -0,0 +1,55 @@
+
+package com.forumemi.dto;
+
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Intervenant;
+
+public class IntervenantResponse {
+    private Long id;
+    private String nom;
+    private String specialite;
+    private String email;
+    private Long entrepriseId;
+    private String entrepriseNom;
+
+    public IntervenantResponse() {}
+
+    public IntervenantResponse(Long id, String nom, String specialite, String email, Long entrepriseId, String entrepriseNom) {
+        this.id = id;
+        this.nom = nom;
+        this.specialite = specialite;
+        this.email = email;
+        this.entrepriseId = entrepriseId;
+        this.entrepriseNom = entrepriseNom;
+    }
+
+    public static IntervenantResponse from(Intervenant intervenant) {
+        Entreprise entreprise = intervenant.getEntreprise();
+        return new IntervenantResponse(
+            intervenant.getId(),
+            intervenant.getNom(),
+            intervenant.getSpecialite(),
+            intervenant.getEmail(),
+            entreprise != null ? entreprise.getId() : null,
+            entreprise != null ? entreprise.getNom() : null
+        );
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getNom() { return nom; }
+    public void setNom(String nom) { this.nom = nom; }
+    
+    public String getSpecialite() { return specialite; }
+    public void setSpecialite(String specialite) { this.specialite = specialite; }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    
+    public Long getEntrepriseId() { return entrepriseId; }
+    public void setEntrepriseId(Long entrepriseId) { this.entrepriseId = entrepriseId; }
+    
+    public String getEntrepriseNom() { return entrepriseNom; }
+    public void setEntrepriseNom(String entrepriseNom) { this.entrepriseNom = entrepriseNom; }
+}
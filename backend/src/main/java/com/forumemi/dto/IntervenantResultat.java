@@ -0,0 +1,39 @@
+package com.forumemi.dto;
+
+public class IntervenantResultat {
+    private Long id;
+    private String nom;
+    private String specialite;
+    private Long entrepriseId;
+    private String entrepriseNom;
+    private double score;
+
+    public IntervenantResultat() {}
+
+    public IntervenantResultat(Long id, String nom, String specialite, Long entrepriseId, String entrepriseNom, double score) {
+        this.id = id;
+        this.nom = nom;
+        this.specialite = specialite;
+        this.entrepriseId = entrepriseId;
+        this.entrepriseNom = entrepriseNom;
+        this.score = score;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getNom() { return nom; }
+    public void setNom(String nom) { this.nom = nom; }
+    
+    public String getSpecialite() { return specialite; }
+    public void setSpecialite(String specialite) { this.specialite = specialite; }
+    
+    public Long getEntrepriseId() { return entrepriseId; }
+    public void setEntrepriseId(Long entrepriseId) { this.entrepriseId = entrepriseId; }
+    
+    public String getEntrepriseNom() { return entrepriseNom; }
+    public void setEntrepriseNom(String entrepriseNom) { this.entrepriseNom = entrepriseNom; }
+    
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
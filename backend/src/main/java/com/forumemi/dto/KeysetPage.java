@@ -0,0 +1,22 @@
+
+package com.forumemi.dto;
+
+import java.util.List;
+
+public class KeysetPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+
+    public KeysetPage() {}
+
+    public KeysetPage(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+    
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,20 @@
+
+package com.forumemi.dto;
+
+public class LigneErreur {
+    private long ligne;
+    private String message;
+
+    public LigneErreur() {}
+
+    public LigneErreur(long ligne, String message) {
+        this.ligne = ligne;
+        this.message = message;
+    }
+
+    public long getLigne() { return ligne; }
+    public void setLigne(long ligne) { this.ligne = ligne; }
+    
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,7 @@
+package com.forumemi.dto;
+
+public interface MembreResume {
+    Long getId();
+    String getNom();
+    String getPrenom();
+}
@@ -0,0 +1,59 @@
+
+package com.forumemi.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PlanificationRequest {
+    @NotNull(message = "Le début de la période est obligatoire")
+    private LocalDateTime debut;
+
+    @NotNull(message = "La fin de la période est obligatoire")
+    private LocalDateTime fin;
+
+    @Min(value = 5, message = "Le pas doit être d'au moins 5 minutes")
+    private int pasMinutes = 30;
+
+    @Valid
+    @NotEmpty(message = "Aucune conférence à planifier")
+    private List<ConferenceAPlanifier> conferences;
+
+    public PlanificationRequest() {}
+
+    public LocalDateTime getDebut() { return debut; }
+    public void setDebut(LocalDateTime debut) { this.debut = debut; }
+    
+    public LocalDateTime getFin() { return fin; }
+    public void setFin(LocalDateTime fin) { this.fin = fin; }
+    
+    public int getPasMinutes() { return pasMinutes; }
+    public void setPasMinutes(int pasMinutes) { this.pasMinutes = pasMinutes; }
+    
+    public List<ConferenceAPlanifier> getConferences() { return conferences; }
+    public void setConferences(List<ConferenceAPlanifier> conferences) { this.conferences = conferences; }
+
+    public static class ConferenceAPlanifier {
+        @NotNull
+        private Long conferenceId;
+
+        @Min(value = 1, message = "L'audience attendue doit être d'au moins 1 personne")
+        private int audienceAttendue;
+
+        public ConferenceAPlanifier() {}
+
+        public ConferenceAPlanifier(Long conferenceId, int audienceAttendue) {
+            this.conferenceId = conferenceId;
+            this.audienceAttendue = audienceAttendue;
+        }
+
+        public Long getConferenceId() { return conferenceId; }
+        public void setConferenceId(Long conferenceId) { this.conferenceId = conferenceId; }
+        
+        public int getAudienceAttendue() { return audienceAttendue; }
+        public void setAudienceAttendue(int audienceAttendue) { this.audienceAttendue = audienceAttendue; }
+    }
+}
@@ -0,0 +1,66 @@
+
+package com.forumemi.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PlanificationResponse {
+    private List<Affectation> affectations;
+    private List<Long> nonPlanifiees;
+    private String strategie;
+    private long dureeMs;
+
+    public PlanificationResponse() {}
+
+    public PlanificationResponse(List<Affectation> affectations, List<Long> nonPlanifiees, String strategie, long dureeMs) {
+        this.affectations = affectations;
+        this.nonPlanifiees = nonPlanifiees;
+        this.strategie = strategie;
+        this.dureeMs = dureeMs;
+    }
+
+    public List<Affectation> getAffectations() { return affectations; }
+    public void setAffectations(List<Affectation> affectations) { this.affectations = affectations; }
+    
+    public List<Long> getNonPlanifiees() { return nonPlanifiees; }
+    public void setNonPlanifiees(List<Long> nonPlanifiees) { this.nonPlanifiees = nonPlanifiees; }
+    
+    public String getStrategie() { return strategie; }
+    public void setStrategie(String strategie) { this.strategie = strategie; }
+    
+    public long getDureeMs() { return dureeMs; }
+    public void setDureeMs(long dureeMs) { this.dureeMs = dureeMs; }
+
+    public static class Affectation {
+        private Long conferenceId;
+        private Long salleId;
+        private Integer salleNumero;
+        private LocalDateTime dateDebut;
+        private LocalDateTime dateFin;
+
+        public Affectation() {}
+
+        public Affectation(Long conferenceId, Long salleId, Integer salleNumero, LocalDateTime dateDebut, LocalDateTime dateFin) {
+            this.conferenceId = conferenceId;
+            this.salleId = salleId;
+            this.salleNumero = salleNumero;
+            this.dateDebut = dateDebut;
+            this.dateFin = dateFin;
+        }
+
+        public Long getConferenceId() { return conferenceId; }
+        public void setConferenceId(Long conferenceId) { this.conferenceId = conferenceId; }
+        
+        public Long getSalleId() { return salleId; }
+        public void setSalleId(Long salleId) { this.salleId = salleId; }
+        
+        public Integer getSalleNumero() { return salleNumero; }
+        public void setSalleNumero(Integer salleNumero) { this.salleNumero = salleNumero; }
+        
+        public LocalDateTime getDateDebut() { return dateDebut; }
+        public void setDateDebut(LocalDateTime dateDebut) { this.dateDebut = dateDebut; }
+        
+        public LocalDateTime getDateFin() { return dateFin; }
+        public void setDateFin(LocalDateTime dateFin) { this.dateFin = dateFin; }
+    }
+}
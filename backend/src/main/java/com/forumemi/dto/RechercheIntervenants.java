@@ -0,0 +1,38 @@
+package com.forumemi.dto;
+
+import java.util.List;
+
+public class RechercheIntervenants {
+    private long total;
+    private List<IntervenantResultat> resultats;
+    private List<Facette> entreprises;
+    private List<Facette> specialites;
+    // a query term matched more index terms than are scanned: total and facets may be understated
+    private boolean tronquee;
+
+    public RechercheIntervenants() {}
+
+    public RechercheIntervenants(long total, List<IntervenantResultat> resultats, List<Facette> entreprises, List<Facette> specialites,
+                                 boolean tronquee) {
+        this.total = total;
+        this.resultats = resultats;
+        this.entreprises = entreprises;
+        this.specialites = specialites;
+        this.tronquee = tronquee;
+    }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+    
+    public List<IntervenantResultat> getResultats() { return resultats; }
+    public void setResultats(List<IntervenantResultat> resultats) { this.resultats = resultats; }
+    
+    public List<Facette> getEntreprises() { return entreprises; }
+    public void setEntreprises(List<Facette> entreprises) { this.entreprises = entreprises; }
+    
+    public List<Facette> getSpecialites() { return specialites; }
+    public void setSpecialites(List<Facette> specialites) { this.specialites = specialites; }
+    
+    public boolean isTronquee() { return tronquee; }
+    public void setTronquee(boolean tronquee) { this.tronquee = tronquee; }
+}
@@ -0,0 +1,61 @@
+package com.forumemi.dto;
+
+import java.util.List;
+
+public class ReequilibrageResponse {
+    private List<Reaffectation> reaffectations;
+    private double ecartAvant;
+    private double ecartApres;
+    private boolean applique;
+    // planned moves not written because the task changed hands (or was finished) in the meantime
+    private List<Reaffectation> ignorees;
+
+    public ReequilibrageResponse() {}
+
+    public ReequilibrageResponse(List<Reaffectation> reaffectations, double ecartAvant, double ecartApres, boolean applique,
+                                 List<Reaffectation> ignorees) {
+        this.reaffectations = reaffectations;
+        this.ecartAvant = ecartAvant;
+        this.ecartApres = ecartApres;
+        this.applique = applique;
+        this.ignorees = ignorees;
+    }
+
+    public List<Reaffectation> getReaffectations() { return reaffectations; }
+    public void setReaffectations(List<Reaffectation> reaffectations) { this.reaffectations = reaffectations; }
+    
+    public double getEcartAvant() { return ecartAvant; }
+    public void setEcartAvant(double ecartAvant) { this.ecartAvant = ecartAvant; }
+    
+    public double getEcartApres() { return ecartApres; }
+    public void setEcartApres(double ecartApres) { this.ecartApres = ecartApres; }
+    
+    public boolean isApplique() { return applique; }
+    public void setApplique(boolean applique) { this.applique = applique; }
+    
+    public List<Reaffectation> getIgnorees() { return ignorees; }
+    public void setIgnorees(List<Reaffectation> ignorees) { this.ignorees = ignorees; }
+
+    public static class Reaffectation {
+        private Long tacheId;
+        private Long ancienResponsableId;
+        private Long nouveauResponsableId;
+
+        public Reaffectation() {}
+
+        public Reaffectation(Long tacheId, Long ancienResponsableId, Long nouveauResponsableId) {
+            this.tacheId = tacheId;
+            this.ancienResponsableId = ancienResponsableId;
+            this.nouveauResponsableId = nouveauResponsableId;
+        }
+
+        public Long getTacheId() { return tacheId; }
+        public void setTacheId(Long tacheId) { this.tacheId = tacheId; }
+        
+        public Long getAncienResponsableId() { return ancienResponsableId; }
+        public void setAncienResponsableId(Long ancienResponsableId) { this.ancienResponsableId = ancienResponsableId; }
+        
+        public Long getNouveauResponsableId() { return nouveauResponsableId; }
+        public void setNouveauResponsableId(Long nouveauResponsableId) { this.nouveauResponsableId = nouveauResponsableId; }
+    }
+}
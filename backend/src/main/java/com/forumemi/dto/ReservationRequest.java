@@ -0,0 +1,14 @@
+package com.forumemi.dto;
+
+public class ReservationRequest {
+    private Long entrepriseId;
+
+    public ReservationRequest() {}
+
+    public ReservationRequest(Long entrepriseId) {
+        this.entrepriseId = entrepriseId;
+    }
+
+    public Long getEntrepriseId() { return entrepriseId; }
+    public void setEntrepriseId(Long entrepriseId) { this.entrepriseId = entrepriseId; }
+}
@@ -0,0 +1,31 @@
+
+package com.forumemi.dto;
+
+import com.forumemi.model.Salle;
+
+public class SalleResponse {
+    private Long id;
+    private Integer numero;
+    private Integer capacite;
+
+    public SalleResponse() {}
+
+    public SalleResponse(Long id, Integer numero, Integer capacite) {
+        this.id = id;
+        this.numero = numero;
+        this.capacite = capacite;
+    }
+
+    public static SalleResponse from(Salle salle) {
+        return new SalleResponse(salle.getId(), salle.getNumero(), salle.getCapacite());
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Integer getNumero() { return numero; }
+    public void setNumero(Integer numero) { this.numero = numero; }
+    
+    public Integer getCapacite() { return capacite; }
+    public void setCapacite(Integer capacite) { this.capacite = capacite; }
+}
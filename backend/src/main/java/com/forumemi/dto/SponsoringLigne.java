@@ -0,0 +1,29 @@
+package com.forumemi.dto;
+
+public class SponsoringLigne {
+    private String cle;
+    private String libelle;
+    private long contrats;
+    private double montant;
+
+    public SponsoringLigne() {}
+
+    public SponsoringLigne(String cle, String libelle, long contrats, double montant) {
+        this.cle = cle;
+        this.libelle = libelle;
+        this.contrats = contrats;
+        this.montant = montant;
+    }
+
+    public String getCle() { return cle; }
+    public void setCle(String cle) { this.cle = cle; }
+    
+    public String getLibelle() { return libelle; }
+    public void setLibelle(String libelle) { this.libelle = libelle; }
+    
+    public long getContrats() { return contrats; }
+    public void setContrats(long contrats) { this.contrats = contrats; }
+    
+    public double getMontant() { return montant; }
+    public void setMontant(double montant) { this.montant = montant; }
+}
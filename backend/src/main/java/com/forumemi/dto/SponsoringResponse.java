@@ -0,0 +1,47 @@
+package com.forumemi.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SponsoringResponse {
+    private long contrats;
+    private double montantTotal;
+    private List<SponsoringLigne> parType;
+    private List<SponsoringLigne> parEvenement;
+    private List<SponsoringLigne> parMois;
+    private LocalDateTime derniereVerification;
+    private int ecartsDerniereVerification;
+
+    public SponsoringResponse() {}
+
+    public SponsoringResponse(long contrats, double montantTotal, List<SponsoringLigne> parType, List<SponsoringLigne> parEvenement, List<SponsoringLigne> parMois, LocalDateTime derniereVerification, int ecartsDerniereVerification) {
+        this.contrats = contrats;
+        this.montantTotal = montantTotal;
+        this.parType = parType;
+        this.parEvenement = parEvenement;
+        this.parMois = parMois;
+        this.derniereVerification = derniereVerification;
+        this.ecartsDerniereVerification = ecartsDerniereVerification;
+    }
+
+    public long getContrats() { return contrats; }
+    public void setContrats(long contrats) { this.contrats = contrats; }
+    
+    public double getMontantTotal() { return montantTotal; }
+    public void setMontantTotal(double montantTotal) { this.montantTotal = montantTotal; }
+    
+    public List<SponsoringLigne> getParType() { return parType; }
+    public void setParType(List<SponsoringLigne> parType) { this.parType = parType; }
+    
+    public List<SponsoringLigne> getParEvenement() { return parEvenement; }
+    public void setParEvenement(List<SponsoringLigne> parEvenement) { this.parEvenement = parEvenement; }
+    
+    public List<SponsoringLigne> getParMois() { return parMois; }
+    public void setParMois(List<SponsoringLigne> parMois) { this.parMois = parMois; }
+    
+    public LocalDateTime getDerniereVerification() { return derniereVerification; }
+    public void setDerniereVerification(LocalDateTime derniereVerification) { this.derniereVerification = derniereVerification; }
+    
+    public int getEcartsDerniereVerification() { return ecartsDerniereVerification; }
+    public void setEcartsDerniereVerification(int ecartsDerniereVerification) { this.ecartsDerniereVerification = ecartsDerniereVerification; }
+}
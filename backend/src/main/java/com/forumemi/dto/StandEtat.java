@@ -0,0 +1,12 @@
+package com.forumemi.dto;
+
+import com.forumemi.model.Stand;
+
+public interface StandEtat {
+    Long getId();
+    Integer getNumero();
+    String getZone();
+    Stand.TailleStand getTaille();
+    Stand.StatutStand getStatut();
+    Long getVersion();
+}
@@ -0,0 +1,68 @@
+
+package com.forumemi.dto;
+
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Stand;
+
+public class StandResponse {
+    private Long id;
+    private Integer numero;
+    private Stand.StatutStand statut;
+    private Stand.TailleStand taille;
+    private String zone;
+    private Long entrepriseId;
+    private String entrepriseNom;
+    private Long version;
+
+    public StandResponse() {}
+
+    public StandResponse(Long id, Integer numero, Stand.StatutStand statut, Stand.TailleStand taille, String zone,
+                         Long entrepriseId, String entrepriseNom, Long version) {
+        this.id = id;
+        this.numero = numero;
+        this.statut = statut;
+        this.taille = taille;
+        this.zone = zone;
+        this.entrepriseId = entrepriseId;
+        this.entrepriseNom = entrepriseNom;
+        this.version = version;
+    }
+
+    public static StandResponse from(Stand stand) {
+        Entreprise entreprise = stand.getEntreprise();
+        return new StandResponse(
+            stand.getId(),
+            stand.getNumero(),
+            stand.getStatut(),
+            stand.getTaille(),
+            stand.getZone(),
+            entreprise != null ? entreprise.getId() : null,
+            entreprise != null ? entreprise.getNom() : null,
+            stand.getVersion()
+        );
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Integer getNumero() { return numero; }
+    public void setNumero(Integer numero) { this.numero = numero; }
+    
+    public Stand.StatutStand getStatut() { return statut; }
+    public void setStatut(Stand.StatutStand statut) { this.statut = statut; }
+    
+    public Stand.TailleStand getTaille() { return taille; }
+    public void setTaille(Stand.TailleStand taille) { this.taille = taille; }
+    
+    public String getZone() { return zone; }
+    public void setZone(String zone) { this.zone = zone; }
+    
+    public Long getEntrepriseId() { return entrepriseId; }
+    public void setEntrepriseId(Long entrepriseId) { this.entrepriseId = entrepriseId; }
+    
+    public String getEntrepriseNom() { return entrepriseNom; }
+    public void setEntrepriseNom(String entrepriseNom) { this.entrepriseNom = entrepriseNom; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,69 @@
+
+package com.forumemi.dto;
+
+import com.forumemi.model.MembreEquipeLogistique;
+import com.forumemi.model.Tache;
+import java.time.LocalDate;
+
+public class TacheResponse {
+    private Long id;
+    private String description;
+    private Tache.StatutTache statut;
+    private LocalDate dateLimite;
+    private Tache.PrioriteTache priorite;
+    private Long responsableId;
+    private String responsableNom;
+    private String responsablePrenom;
+
+    public TacheResponse() {}
+
+    public TacheResponse(Long id, String description, Tache.StatutTache statut, LocalDate dateLimite,
+                         Tache.PrioriteTache priorite, Long responsableId, String responsableNom, String responsablePrenom) {
+        this.id = id;
+        this.description = description;
+        this.statut = statut;
+        this.dateLimite = dateLimite;
+        this.priorite = priorite;
+        this.responsableId = responsableId;
+        this.responsableNom = responsableNom;
+        this.responsablePrenom = responsablePrenom;
+    }
+
+    public static TacheResponse from(Tache tache) {
+        MembreEquipeLogistique responsable = tache.getResponsable();
+        return new TacheResponse(
+            tache.getId(),
+            tache.getDescription(),
+            tache.getStatut(),
+            tache.getDateLimite(),
+            tache.getPriorite(),
+            responsable != null ? responsable.getId() : null,
+            responsable != null ? responsable.getNom() : null,
+            responsable != null ? responsable.getPrenom() : null
+        );
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public Tache.StatutTache getStatut() { return statut; }
+    public void setStatut(Tache.StatutTache statut) { this.statut = statut; }
+    
+    public LocalDate getDateLimite() { return dateLimite; }
+    public void setDateLimite(LocalDate dateLimite) { this.dateLimite = dateLimite; }
+    
+    public Tache.PrioriteTache getPriorite() { return priorite; }
+    public void setPriorite(Tache.PrioriteTache priorite) { this.priorite = priorite; }
+    
+    public Long getResponsableId() { return responsableId; }
+    public void setResponsableId(Long responsableId) { this.responsableId = responsableId; }
+    
+    public String getResponsableNom() { return responsableNom; }
+    public void setResponsableNom(String responsableNom) { this.responsableNom = responsableNom; }
+    
+    public String getResponsablePrenom() { return responsablePrenom; }
+    public void setResponsablePrenom(String responsablePrenom) { this.responsablePrenom = responsablePrenom; }
+}
@@ -0,0 +1,14 @@
+package com.forumemi.dto;
+
+import com.forumemi.event.TacheEcheanceEvent;
+import com.forumemi.model.Tache;
+import java.time.LocalDate;
+
+public interface TacheSuivi {
+    Long getId();
+    Tache.StatutTache getStatut();
+    Tache.PrioriteTache getPriorite();
+    LocalDate getDateLimite();
+    Long getResponsableId();
+    TacheEcheanceEvent.Etat getEcheanceAtteinte();
+}
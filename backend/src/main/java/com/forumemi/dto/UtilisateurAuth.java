@@ -0,0 +1,34 @@
+
+package com.forumemi.dto;
+
+import com.forumemi.model.Utilisateur;
+
+public class UtilisateurAuth {
+    private final Long id;
+    private final String nom;
+    private final String prenom;
+    private final String email;
+    private final Utilisateur.Role role;
+    private final String motDePasse;
+
+    public UtilisateurAuth(Long id, String nom, String prenom, String email, Utilisateur.Role role, String motDePasse) {
+        this.id = id;
+        this.nom = nom;
+        this.prenom = prenom;
+        this.email = email;
+        this.role = role;
+        this.motDePasse = motDePasse;
+    }
+
+    public Long getId() { return id; }
+    
+    public String getNom() { return nom; }
+    
+    public String getPrenom() { return prenom; }
+    
+    public String getEmail() { return email; }
+    
+    public Utilisateur.Role getRole() { return role; }
+    
+    public String getMotDePasse() { return motDePasse; }
+}
@@ -0,0 +1,6 @@
+
+package com.forumemi.event;
+
+public enum ChangeType {
+    CREATED, UPDATED, DELETED
+}
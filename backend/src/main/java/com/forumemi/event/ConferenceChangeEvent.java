@@ -0,0 +1,30 @@
+
+package com.forumemi.event;
+
+import java.time.LocalDateTime;
+
+public class ConferenceChangeEvent {
+    private final Long id;
+    private final Long salleId;
+    private final LocalDateTime dateDebut;
+    private final LocalDateTime dateFin;
+    private final ChangeType type;
+
+    public ConferenceChangeEvent(Long id, Long salleId, LocalDateTime dateDebut, LocalDateTime dateFin, ChangeType type) {
+        this.id = id;
+        this.salleId = salleId;
+        this.dateDebut = dateDebut;
+        this.dateFin = dateFin;
+        this.type = type;
+    }
+
+    public Long getId() { return id; }
+    
+    public Long getSalleId() { return salleId; }
+    
+    public LocalDateTime getDateDebut() { return dateDebut; }
+    
+    public LocalDateTime getDateFin() { return dateFin; }
+    
+    public ChangeType getType() { return type; }
+}
@@ -0,0 +1,39 @@
+
+package com.forumemi.event;
+
+import com.forumemi.model.Conference;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConferenceEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Conference conference) {
+        publish(conference, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Conference conference) {
+        publish(conference, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Conference conference) {
+        publish(conference, ChangeType.DELETED);
+    }
+
+    private void publish(Conference conference, ChangeType type) {
+        // getId() on a lazy salle proxy does not initialize it
+        Long salleId = conference.getSalle() != null ? conference.getSalle().getId() : null;
+        eventPublisher.publishEvent(new ConferenceChangeEvent(
+            conference.getId(), salleId, conference.getDateDebut(), conference.getDateFin(), type));
+    }
+}
@@ -0,0 +1,30 @@
+package com.forumemi.event;
+
+import com.forumemi.model.TypeContrat;
+import java.time.LocalDate;
+
+public class ContratChangeEvent {
+    private final String id;
+    private final Double montant;
+    private final TypeContrat typeContrat;
+    private final LocalDate date;
+    private final ChangeType type;
+
+    public ContratChangeEvent(String id, Double montant, TypeContrat typeContrat, LocalDate date, ChangeType type) {
+        this.id = id;
+        this.montant = montant;
+        this.typeContrat = typeContrat;
+        this.date = date;
+        this.type = type;
+    }
+
+    public String getId() { return id; }
+    
+    public Double getMontant() { return montant; }
+    
+    public TypeContrat getTypeContrat() { return typeContrat; }
+    
+    public LocalDate getDate() { return date; }
+    
+    public ChangeType getType() { return type; }
+}
@@ -0,0 +1,35 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Contrat;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ContratEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Contrat contrat) {
+        publish(contrat, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Contrat contrat) {
+        publish(contrat, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Contrat contrat) {
+        publish(contrat, ChangeType.DELETED);
+    }
+
+    private void publish(Contrat contrat, ChangeType type) {
+        eventPublisher.publishEvent(new ContratChangeEvent(contrat.getId(), contrat.getMontant(), contrat.getType(), contrat.getDate(), type));
+    }
+}
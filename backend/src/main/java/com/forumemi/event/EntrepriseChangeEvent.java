@@ -0,0 +1,19 @@
+package com.forumemi.event;
+
+public class EntrepriseChangeEvent {
+    private final Long id;
+    private final String nom;
+    private final ChangeType type;
+
+    public EntrepriseChangeEvent(Long id, String nom, ChangeType type) {
+        this.id = id;
+        this.nom = nom;
+        this.type = type;
+    }
+
+    public Long getId() { return id; }
+    
+    public String getNom() { return nom; }
+    
+    public ChangeType getType() { return type; }
+}
@@ -0,0 +1,35 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Entreprise;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EntrepriseEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Entreprise entreprise) {
+        publish(entreprise, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Entreprise entreprise) {
+        publish(entreprise, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Entreprise entreprise) {
+        publish(entreprise, ChangeType.DELETED);
+    }
+
+    private void publish(Entreprise entreprise, ChangeType type) {
+        eventPublisher.publishEvent(new EntrepriseChangeEvent(entreprise.getId(), entreprise.getNom(), type));
+    }
+}
@@ -0,0 +1,36 @@
+package com.forumemi.event;
+
+public class IntervenantChangeEvent {
+    private final Long id;
+    private final String nom;
+    private final String biographie;
+    private final String specialite;
+    private final Long entrepriseId;
+    private final String entrepriseNom;
+    private final ChangeType type;
+
+    public IntervenantChangeEvent(Long id, String nom, String biographie, String specialite,
+                                  Long entrepriseId, String entrepriseNom, ChangeType type) {
+        this.id = id;
+        this.nom = nom;
+        this.biographie = biographie;
+        this.specialite = specialite;
+        this.entrepriseId = entrepriseId;
+        this.entrepriseNom = entrepriseNom;
+        this.type = type;
+    }
+
+    public Long getId() { return id; }
+    
+    public String getNom() { return nom; }
+    
+    public String getBiographie() { return biographie; }
+    
+    public String getSpecialite() { return specialite; }
+    
+    public Long getEntrepriseId() { return entrepriseId; }
+    
+    public String getEntrepriseNom() { return entrepriseNom; }
+    
+    public ChangeType getType() { return type; }
+}
@@ -0,0 +1,39 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Intervenant;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IntervenantEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Intervenant intervenant) {
+        publish(intervenant, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Intervenant intervenant) {
+        publish(intervenant, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Intervenant intervenant) {
+        publish(intervenant, ChangeType.DELETED);
+    }
+
+    private void publish(Intervenant intervenant, ChangeType type) {
+        Entreprise entreprise = intervenant.getEntreprise();
+        eventPublisher.publishEvent(new IntervenantChangeEvent(
+            intervenant.getId(), intervenant.getNom(), intervenant.getBiographie(), intervenant.getSpecialite(),
+            entreprise != null ? entreprise.getId() : null, entreprise != null ? entreprise.getNom() : null, type));
+    }
+}
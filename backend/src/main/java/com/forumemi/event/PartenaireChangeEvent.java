@@ -0,0 +1,23 @@
+package com.forumemi.event;
+
+public class PartenaireChangeEvent {
+    private final Long id;
+    private final String contratId;
+    private final Long evenementId;
+    private final ChangeType type;
+
+    public PartenaireChangeEvent(Long id, String contratId, Long evenementId, ChangeType type) {
+        this.id = id;
+        this.contratId = contratId;
+        this.evenementId = evenementId;
+        this.type = type;
+    }
+
+    public Long getId() { return id; }
+    
+    public String getContratId() { return contratId; }
+    
+    public Long getEvenementId() { return evenementId; }
+    
+    public ChangeType getType() { return type; }
+}
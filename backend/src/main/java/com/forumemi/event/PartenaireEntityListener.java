@@ -0,0 +1,39 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Partenaire;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PartenaireEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Partenaire partenaire) {
+        publish(partenaire, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Partenaire partenaire) {
+        publish(partenaire, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Partenaire partenaire) {
+        publish(partenaire, ChangeType.DELETED);
+    }
+
+    private void publish(Partenaire partenaire, ChangeType type) {
+        eventPublisher.publishEvent(new PartenaireChangeEvent(
+            partenaire.getId(),
+            partenaire.getContrat() != null ? partenaire.getContrat().getId() : null,
+            partenaire.getEvenement() != null ? partenaire.getEvenement().getId() : null,
+            type));
+    }
+}
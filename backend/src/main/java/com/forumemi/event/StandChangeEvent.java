@@ -0,0 +1,38 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Stand;
+
+public class StandChangeEvent {
+    private final Long id;
+    private final Integer numero;
+    private final String zone;
+    private final Stand.TailleStand taille;
+    private final Stand.StatutStand statut;
+    private final Long version;
+    private final ChangeType type;
+
+    public StandChangeEvent(Long id, Integer numero, String zone, Stand.TailleStand taille, Stand.StatutStand statut,
+                            Long version, ChangeType type) {
+        this.id = id;
+        this.numero = numero;
+        this.zone = zone;
+        this.taille = taille;
+        this.statut = statut;
+        this.version = version;
+        this.type = type;
+    }
+
+    public Long getId() { return id; }
+    
+    public Integer getNumero() { return numero; }
+    
+    public String getZone() { return zone; }
+    
+    public Stand.TailleStand getTaille() { return taille; }
+    
+    public Stand.StatutStand getStatut() { return statut; }
+    
+    public Long getVersion() { return version; }
+    
+    public ChangeType getType() { return type; }
+}
@@ -0,0 +1,38 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Stand;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// The conditional JPQL updates of StandReservationService bypass this listener; that service publishes
+// the same event itself.
+@Component
+public class StandEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Stand stand) {
+        publish(stand, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Stand stand) {
+        publish(stand, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Stand stand) {
+        publish(stand, ChangeType.DELETED);
+    }
+
+    private void publish(Stand stand, ChangeType type) {
+        eventPublisher.publishEvent(new StandChangeEvent(
+            stand.getId(), stand.getNumero(), stand.getZone(), stand.getTaille(), stand.getStatut(), stand.getVersion(), type));
+    }
+}
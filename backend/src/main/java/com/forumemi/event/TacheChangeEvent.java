@@ -0,0 +1,39 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Tache;
+import java.time.LocalDate;
+
+public class TacheChangeEvent {
+    private final Long id;
+    private final String description;
+    private final Tache.StatutTache statut;
+    private final Tache.PrioriteTache priorite;
+    private final LocalDate dateLimite;
+    private final Long responsableId;
+    private final ChangeType type;
+
+    public TacheChangeEvent(Long id, String description, Tache.StatutTache statut, Tache.PrioriteTache priorite,
+                            LocalDate dateLimite, Long responsableId, ChangeType type) {
+        this.id = id;
+        this.description = description;
+        this.statut = statut;
+        this.priorite = priorite;
+        this.dateLimite = dateLimite;
+        this.responsableId = responsableId;
+        this.type = type;
+    }
+
+    public Long getId() { return id; }
+    
+    public String getDescription() { return description; }
+    
+    public Tache.StatutTache getStatut() { return statut; }
+    
+    public Tache.PrioriteTache getPriorite() { return priorite; }
+    
+    public LocalDate getDateLimite() { return dateLimite; }
+    
+    public Long getResponsableId() { return responsableId; }
+    
+    public ChangeType getType() { return type; }
+}
@@ -0,0 +1,47 @@
+package com.forumemi.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.forumemi.model.Tache;
+import java.time.LocalDate;
+
+// A task reached a deadline stage: PROCHE (due within the configured number of days) or DEPASSEE.
+public class TacheEcheanceEvent {
+    private final Long tacheId;
+    private final String description;
+    private final LocalDate dateLimite;
+    private final Tache.PrioriteTache priorite;
+    private final Long responsableId;
+    private final String responsableEmail;
+    private final Etat etat;
+
+    public TacheEcheanceEvent(Long tacheId, String description, LocalDate dateLimite, Tache.PrioriteTache priorite,
+                              Long responsableId, String responsableEmail, Etat etat) {
+        this.tacheId = tacheId;
+        this.description = description;
+        this.dateLimite = dateLimite;
+        this.priorite = priorite;
+        this.responsableId = responsableId;
+        this.responsableEmail = responsableEmail;
+        this.etat = etat;
+    }
+
+    public Long getTacheId() { return tacheId; }
+    
+    public String getDescription() { return description; }
+    
+    public LocalDate getDateLimite() { return dateLimite; }
+    
+    public Tache.PrioriteTache getPriorite() { return priorite; }
+    
+    public Long getResponsableId() { return responsableId; }
+    
+    // routes the notification to the assignee's stream, not part of the payload
+    @JsonIgnore
+    public String getResponsableEmail() { return responsableEmail; }
+    
+    public Etat getEtat() { return etat; }
+
+    public enum Etat {
+        PROCHE, DEPASSEE
+    }
+}
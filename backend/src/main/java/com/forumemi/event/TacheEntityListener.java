@@ -0,0 +1,37 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Tache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TacheEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Tache tache) {
+        publish(tache, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Tache tache) {
+        publish(tache, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Tache tache) {
+        publish(tache, ChangeType.DELETED);
+    }
+
+    private void publish(Tache tache, ChangeType type) {
+        Long responsableId = tache.getResponsable() != null ? tache.getResponsable().getId() : null;
+        eventPublisher.publishEvent(new TacheChangeEvent(tache.getId(), tache.getDescription(), tache.getStatut(),
+            tache.getPriorite(), tache.getDateLimite(), responsableId, type));
+    }
+}
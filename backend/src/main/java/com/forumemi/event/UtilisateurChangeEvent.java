@@ -0,0 +1,43 @@
+package com.forumemi.event;
+
+import com.forumemi.model.Utilisateur;
+
+public class UtilisateurChangeEvent {
+    private final Long id;
+    private final String email;
+    private final String emailPrecedent;
+    private final String nom;
+    private final String prenom;
+    private final Utilisateur.Role role;
+    private final boolean membreEquipe;
+    private final ChangeType type;
+
+    public UtilisateurChangeEvent(Long id, String email, String emailPrecedent, String nom, String prenom,
+                                  Utilisateur.Role role, boolean membreEquipe, ChangeType type) {
+        this.id = id;
+        this.email = email;
+        this.emailPrecedent = emailPrecedent;
+        this.nom = nom;
+        this.prenom = prenom;
+        this.role = role;
+        this.membreEquipe = membreEquipe;
+        this.type = type;
+    }
+
+    public Long getId() { return id; }
+    
+    public String getEmail() { return email; }
+    
+    // equal to email unless the update changed the address
+    public String getEmailPrecedent() { return emailPrecedent; }
+    
+    public String getNom() { return nom; }
+    
+    public String getPrenom() { return prenom; }
+    
+    public Utilisateur.Role getRole() { return role; }
+    
+    public boolean isMembreEquipe() { return membreEquipe; }
+    
+    public ChangeType getType() { return type; }
+}
@@ -0,0 +1,49 @@
+
+package com.forumemi.event;
+
+import com.forumemi.model.MembreEquipeLogistique;
+import com.forumemi.model.Utilisateur;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Instantiated by Hibernate through Spring's bean container. Events are published during the
+// flush; consumers use @TransactionalEventListener so they only react once the change is committed.
+@Component
+public class UtilisateurEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(Utilisateur utilisateur) {
+        utilisateur.setEmailPrecedent(utilisateur.getEmail());
+    }
+
+    @PostPersist
+    public void onCreated(Utilisateur utilisateur) {
+        publish(utilisateur, ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Utilisateur utilisateur) {
+        publish(utilisateur, ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Utilisateur utilisateur) {
+        publish(utilisateur, ChangeType.DELETED);
+    }
+
+    // The previous email comes from the loaded state: by @PreUpdate/@PostUpdate the entity already holds the new one.
+    private void publish(Utilisateur utilisateur, ChangeType type) {
+        String emailPrecedent = utilisateur.getEmailPrecedent() != null ? utilisateur.getEmailPrecedent() : utilisateur.getEmail();
+        eventPublisher.publishEvent(new UtilisateurChangeEvent(utilisateur.getId(), utilisateur.getEmail(), emailPrecedent,
+                utilisateur.getNom(), utilisateur.getPrenom(), utilisateur.getRole(), utilisateur instanceof MembreEquipeLogistique, type));
+        utilisateur.setEmailPrecedent(utilisateur.getEmail());
+    }
+}
@@ -1,15 +1,18 @@
 
 package com.forumemi.model;
 
+import com.forumemi.event.ConferenceEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
 @Table(name = "conferences")
+@EntityListeners(ConferenceEntityListener.class)
 public class Conference {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,11 +28,12 @@ public class Conference {
     @NotNull(message = "La date de fin est obligatoire")
     private LocalDateTime dateFin;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "salle_id")
     private Salle salle;
 
     @ManyToMany
+    @BatchSize(size = 50)
     @JoinTable(
         name = "conference_intervenants",
         joinColumns = @JoinColumn(name = "conference_id"),
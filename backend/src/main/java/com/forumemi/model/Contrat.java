@@ -1,6 +1,7 @@
 
 package com.forumemi.model;
 
+import com.forumemi.event.ContratEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -8,6 +9,7 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "contrats")
+@EntityListeners(ContratEntityListener.class)
 public class Contrat {
     @Id
     private String id;
@@ -1,16 +1,23 @@
 
 package com.forumemi.model;
 
+import com.forumemi.event.EntrepriseEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 @Entity
 @Table(name = "entreprises")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entreprises")
+@EntityListeners(EntrepriseEntityListener.class)
 public class Entreprise {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entreprises_seq")
+    @SequenceGenerator(name = "entreprises_seq", sequenceName = "entreprises_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Le nom de l'entreprise est obligatoire")
@@ -18,6 +25,7 @@ public class Entreprise {
     private String nom;
 
     @OneToMany(mappedBy = "entreprise", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "entreprises-stands")
     private List<Stand> stands;
 
     @OneToMany(mappedBy = "entreprise", cascade = CascadeType.ALL)
@@ -1,15 +1,18 @@
 
 package com.forumemi.model;
 
+import com.forumemi.event.IntervenantEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
 @Table(name = "intervenants")
+@EntityListeners(IntervenantEntityListener.class)
 public class Intervenant {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "intervenants_seq")
+    @SequenceGenerator(name = "intervenants_seq", sequenceName = "intervenants_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Le nom est obligatoire")
@@ -1,12 +1,14 @@
 
 package com.forumemi.model;
 
+import com.forumemi.event.PartenaireEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
 @Table(name = "partenaires")
+@EntityListeners(PartenaireEntityListener.class)
 public class Partenaire {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,14 +1,21 @@
 
 package com.forumemi.model;
 
+import com.forumemi.event.StandEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "stands")
+@EntityListeners(StandEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "stands")
 public class Stand {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stands_seq")
+    @SequenceGenerator(name = "stands_seq", sequenceName = "stands_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Le numéro de stand est obligatoire")
@@ -28,6 +35,9 @@ public class Stand {
     @JoinColumn(name = "entreprise_id")
     private Entreprise entreprise;
 
+    @Version
+    private Long version;
+
     public Stand() {}
 
     public Stand(Integer numero, String zone, TailleStand taille) {
@@ -54,6 +64,9 @@ public class Stand {
     
     public Entreprise getEntreprise() { return entreprise; }
     public void setEntreprise(Entreprise entreprise) { this.entreprise = entreprise; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 
     public enum StatutStand {
         LIBRE, OCCUPE, RESERVE
@@ -1,13 +1,18 @@
 
 package com.forumemi.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.forumemi.event.TacheEcheanceEvent;
+import com.forumemi.event.TacheEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Entity
 @Table(name = "taches")
+@EntityListeners(TacheEntityListener.class)
 public class Tache {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,6 +35,12 @@ public class Tache {
     @JoinColumn(name = "responsable_id")
     private MembreEquipeLogistique responsable;
 
+    // last deadline stage notified by TacheEcheanceScheduler, so a restart does not notify it again
+    @JsonIgnore
+    @Enumerated(EnumType.STRING)
+    @Column(name = "echeance_atteinte")
+    private TacheEcheanceEvent.Etat echeanceAtteinte;
+
     public Tache() {}
 
     public Tache(String description, LocalDate dateLimite, MembreEquipeLogistique responsable) {
@@ -49,13 +60,22 @@ public class Tache {
     public void setStatut(StatutTache statut) { this.statut = statut; }
     
     public LocalDate getDateLimite() { return dateLimite; }
-    public void setDateLimite(LocalDate dateLimite) { this.dateLimite = dateLimite; }
+    public void setDateLimite(LocalDate dateLimite) {
+        // a new deadline starts its stages over
+        if (!Objects.equals(this.dateLimite, dateLimite)) {
+            this.echeanceAtteinte = null;
+        }
+        this.dateLimite = dateLimite;
+    }
     
     public PrioriteTache getPriorite() { return priorite; }
     public void setPriorite(PrioriteTache priorite) { this.priorite = priorite; }
     
     public MembreEquipeLogistique getResponsable() { return responsable; }
     public void setResponsable(MembreEquipeLogistique responsable) { this.responsable = responsable; }
+    
+    public TacheEcheanceEvent.Etat getEcheanceAtteinte() { return echeanceAtteinte; }
+    public void setEcheanceAtteinte(TacheEcheanceEvent.Etat echeanceAtteinte) { this.echeanceAtteinte = echeanceAtteinte; }
 
     public enum StatutTache {
         EN_ATTENTE, EN_COURS, TERMINEE
@@ -6,10 +6,12 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.forumemi.event.UtilisateurEntityListener;
 
 @Entity
 @Table(name = "utilisateurs")
 @Inheritance(strategy = InheritanceType.JOINED)
+@EntityListeners(UtilisateurEntityListener.class)
 public abstract class Utilisateur {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,6 +41,11 @@ public abstract class Utilisateur {
     @Enumerated(EnumType.STRING)
     private Role role;
 
+    // email as last loaded or written, kept by UtilisateurEntityListener so a change of address is visible
+    @JsonIgnore
+    @Transient
+    private String emailPrecedent;
+
     public Utilisateur() {}
 
     public Utilisateur(String nom, String prenom, String email, String motDePasse, Role role) {
@@ -70,6 +77,9 @@ public abstract class Utilisateur {
     
     public Role getRole() { return role; }
     public void setRole(Role role) { this.role = role; }
+    
+    public String getEmailPrecedent() { return emailPrecedent; }
+    public void setEmailPrecedent(String emailPrecedent) { this.emailPrecedent = emailPrecedent; }
 
     public enum Role {
         ADMIN, EQUIPIER, INTERVENANT
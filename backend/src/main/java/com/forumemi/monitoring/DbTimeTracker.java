@@ -0,0 +1,84 @@
+package com.forumemi.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Per-thread accumulator of the time spent in JDBC calls. Only threads that called start() are measured:
+// the HTTP request threads, via RequestMetricsInterceptor. Import pipelines and other background threads
+// are not. The text of each prepared SELECT is counted too: Hibernate emits the same text for every load
+// of a given association, so one text repeated many times in a request is the N+1 signature.
+public final class DbTimeTracker {
+
+    private static final ThreadLocal<Measure> CURRENT = new ThreadLocal<>();
+
+    private DbTimeTracker() {}
+
+    public static void start() {
+        CURRENT.set(new Measure());
+    }
+
+    // Returns what was measured since start(), or null when this thread is not being measured.
+    public static Measure stop() {
+        Measure measure = CURRENT.get();
+        CURRENT.remove();
+        return measure;
+    }
+
+    static void recordStatement(long nanos) {
+        Measure measure = CURRENT.get();
+        if (measure != null) {
+            measure.statementNanos += nanos;
+            measure.statements++;
+        }
+    }
+
+    static void recordPrepared(String sql) {
+        Measure measure = CURRENT.get();
+        if (measure == null || !isSelect(sql)) {
+            return;
+        }
+        if (measure.selects == null) {
+            measure.selects = new HashMap<>();
+        }
+        int repetitions = measure.selects.merge(sql, 1, Integer::sum);
+        if (repetitions > measure.maxRepetitions) {
+            measure.maxRepetitions = repetitions;
+            measure.mostRepeatedSelect = sql;
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        int debut = 0;
+        while (debut < sql.length() && Character.isWhitespace(sql.charAt(debut))) {
+            debut++;
+        }
+        return sql.regionMatches(true, debut, "select", 0, 6);
+    }
+
+    static void recordConnectionWait(long nanos) {
+        Measure measure = CURRENT.get();
+        if (measure != null) {
+            measure.connectionWaitNanos += nanos;
+        }
+    }
+
+    public static final class Measure {
+        private long statementNanos;
+        private int statements;
+        private long connectionWaitNanos;
+        private Map<String, Integer> selects;
+        private int maxRepetitions;
+        private String mostRepeatedSelect;
+
+        public long getStatementNanos() { return statementNanos; }
+
+        public int getStatements() { return statements; }
+
+        public long getConnectionWaitNanos() { return connectionWaitNanos; }
+
+        // How many times the most repeated SELECT text was prepared during the request.
+        public int getMaxRepetitions() { return maxRepetitions; }
+
+        public String getMostRepeatedSelect() { return mostRepeatedSelect; }
+    }
+}
@@ -0,0 +1,119 @@
+package com.forumemi.monitoring;
+
+import com.forumemi.dto.EndpointPerf;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histograms per endpoint and HTTP status, for /api/admin/perf. Request threads write into an
+// HdrHistogram Recorder (wait-free, no lock shared with readers); a summary swaps the recorder's interval
+// histogram out and folds it into the cumulative one, so reading never blocks the request path.
+@Component
+public class EndpointPerfRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointPerfRegistry.class);
+
+    // microsecond resolution, 2 significant digits, anything above 10 minutes is clamped
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ConcurrentHashMap<Key, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, int statut, long nanos, DbTimeTracker.Measure measure, boolean nPlusUn) {
+        EndpointStats endpointStats = stats.computeIfAbsent(new Key(endpoint, statut), key -> new EndpointStats());
+        endpointStats.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_MICROS));
+        endpointStats.statements.add(measure.getStatements());
+        endpointStats.maxStatements.accumulate(measure.getStatements());
+        if (nPlusUn) {
+            endpointStats.exempleNPlusUn = measure.getMostRepeatedSelect();
+            endpointStats.nPlusUn.increment();
+            if (endpointStats.nPlusUnSignale.compareAndSet(false, true)) {
+                log.warn("N+1 probable sur {} : {} fois la même requête ({})", endpoint,
+                        measure.getMaxRepetitions(), measure.getMostRepeatedSelect());
+            }
+        }
+    }
+
+    // Slowest first (p99).
+    public List<EndpointPerf> summary() {
+        List<EndpointPerf> summary = new ArrayList<>();
+        stats.forEach((key, endpointStats) -> {
+            Histogram histogram = endpointStats.cumulative();
+            long requetes = histogram.getTotalCount();
+            if (requetes == 0) {
+                return;
+            }
+            EndpointPerf perf = new EndpointPerf();
+            perf.setEndpoint(key.endpoint);
+            perf.setStatut(key.statut);
+            perf.setRequetes(requetes);
+            perf.setMoyenneMs(histogram.getMean() / 1000.0);
+            perf.setP50Ms(histogram.getValueAtPercentile(50) / 1000.0);
+            perf.setP90Ms(histogram.getValueAtPercentile(90) / 1000.0);
+            perf.setP99Ms(histogram.getValueAtPercentile(99) / 1000.0);
+            perf.setMaxMs(histogram.getMaxValue() / 1000.0);
+            perf.setRequetesSqlMoyenne(endpointStats.statements.sum() / (double) requetes);
+            perf.setRequetesSqlMax(endpointStats.maxStatements.get());
+            perf.setSuspicionsNPlusUn(endpointStats.nPlusUn.sum());
+            perf.setExempleNPlusUn(endpointStats.exempleNPlusUn);
+            summary.add(perf);
+        });
+        summary.sort(Comparator.comparingDouble(EndpointPerf::getP99Ms).reversed());
+        return summary;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private static final class Key {
+        private final String endpoint;
+        private final int statut;
+
+        Key(String endpoint, int statut) {
+            this.endpoint = endpoint;
+            this.statut = statut;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return statut == other.statut && endpoint.equals(other.endpoint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(endpoint, statut);
+        }
+    }
+
+    private static final class EndpointStats {
+        private final Recorder recorder = new Recorder(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram cumul = new Histogram(HIGHEST_MICROS, SIGNIFICANT_DIGITS);
+        private Histogram intervalle;
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder nPlusUn = new LongAdder();
+        private final AtomicBoolean nPlusUnSignale = new AtomicBoolean();
+        private volatile String exempleNPlusUn;
+
+        synchronized Histogram cumulative() {
+            intervalle = recorder.getIntervalHistogram(intervalle);
+            cumul.add(intervalle);
+            return cumul.copy();
+        }
+    }
+}
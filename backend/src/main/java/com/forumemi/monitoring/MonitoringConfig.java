@@ -0,0 +1,54 @@
+package com.forumemi.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class MonitoringConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EndpointPerfRegistry endpointPerfRegistry;
+
+    @Value("${forum.perf.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    // static: post-processors are created before the other beans of this class can be
+    @Bean
+    public static BeanPostProcessor timedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource ? TimedDataSource.wrap((DataSource) bean) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<TraceSamplingFilter> traceSamplingFilter(
+            @Value("${forum.logging.trace-sampling.taux:0}") double taux,
+            @Value("${forum.logging.trace-sampling.loggers:com.forumemi}") List<String> loggers) {
+        TraceSampling.configure(taux, loggers);
+        FilterRegistrationBean<TraceSamplingFilter> registration = new FilterRegistrationBean<>(new TraceSamplingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, endpointPerfRegistry, nPlusOneThreshold))
+                .addPathPatterns("/api/**");
+    }
+}
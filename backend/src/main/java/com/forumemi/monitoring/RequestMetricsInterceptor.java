@@ -0,0 +1,97 @@
+package com.forumemi.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import java.util.concurrent.TimeUnit;
+
+// Records, per controller method, the database time of each request:
+//   forum.db.time             time spent executing statements
+//   forum.db.connection.wait  time spent waiting for a pooled connection
+//   forum.db.statements       statements executed
+//   forum.db.nplusone         requests where one SELECT was repeated nPlusOneThreshold times or more
+// and feeds EndpointPerfRegistry with the latency per endpoint and status.
+// Only the request thread is measured; work handed to an async executor (streamed exports) is not, and
+// async requests are left out of the latency histograms.
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+    private final EndpointPerfRegistry endpointPerfRegistry;
+    private final int nPlusOneThreshold;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, EndpointPerfRegistry endpointPerfRegistry, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.endpointPerfRegistry = endpointPerfRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST && handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            DbTimeTracker.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        DbTimeTracker.Measure measure = DbTimeTracker.stop();
+        if (measure != null && handler instanceof HandlerMethod) {
+            recordDatabase((HandlerMethod) handler, measure);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DbTimeTracker.Measure measure = DbTimeTracker.stop();
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (measure == null || !(handler instanceof HandlerMethod) || start == null) {
+            return;
+        }
+        boolean nPlusOne = recordDatabase((HandlerMethod) handler, measure);
+        // an exception no handler resolved still leaves status 200 at this point
+        int statut = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        String endpoint = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        endpointPerfRegistry.record(endpoint, statut, System.nanoTime() - (Long) start, measure, nPlusOne);
+    }
+
+    private boolean recordDatabase(HandlerMethod handlerMethod, DbTimeTracker.Measure measure) {
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+
+        Timer.builder("forum.db.time")
+                .description("Temps d'exécution SQL par requête HTTP")
+                .tags("controller", controller, "method", method)
+                .register(meterRegistry)
+                .record(measure.getStatementNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("forum.db.connection.wait")
+                .description("Attente d'une connexion du pool par requête HTTP")
+                .tags("controller", controller, "method", method)
+                .register(meterRegistry)
+                .record(measure.getConnectionWaitNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("forum.db.statements")
+                .description("Requêtes SQL exécutées par requête HTTP")
+                .tags("controller", controller, "method", method)
+                .register(meterRegistry)
+                .record(measure.getStatements());
+        if (measure.getMaxRepetitions() < nPlusOneThreshold) {
+            return false;
+        }
+        Counter.builder("forum.db.nplusone")
+                .description("Requêtes HTTP répétant une même requête SQL (N+1 probable)")
+                .tags("controller", controller, "method", method)
+                .register(meterRegistry)
+                .increment();
+        return true;
+    }
+}
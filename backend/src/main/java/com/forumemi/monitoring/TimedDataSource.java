@@ -0,0 +1,88 @@
+package com.forumemi.monitoring;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+// JDBC proxies reporting to DbTimeTracker: getConnection() is timed as pool wait, the SQL text passed to
+// prepareStatement() is counted, and the execute* calls of the statements created from those connections
+// are timed as statement time. Row fetching after execute (ResultSet.next on a cursor) is not counted.
+// Everything else, unwrap() included, goes to the pool's own objects, so Hikari's metrics binding still
+// finds the HikariDataSource.
+final class TimedDataSource {
+
+    private TimedDataSource() {}
+
+    // A closeable pool stays closeable through the proxy: Spring infers the destroy method from the bean it
+    // keeps, so without close() on the proxy the pool would never be shut down with the context.
+    static DataSource wrap(DataSource dataSource) {
+        Class<?>[] types = dataSource instanceof Closeable
+                ? new Class<?>[] {DataSource.class, Closeable.class}
+                : new Class<?>[] {DataSource.class};
+        return proxy(DataSource.class, types, dataSource, (target, method, args) -> {
+            if (!method.getName().equals("getConnection")) {
+                return method.invoke(target, args);
+            }
+            long debut = System.nanoTime();
+            Connection connection = (Connection) method.invoke(target, args);
+            DbTimeTracker.recordConnectionWait(System.nanoTime() - debut);
+            return proxy(Connection.class, connection, TimedDataSource::invokeOnConnection);
+        });
+    }
+
+    private static Object invokeOnConnection(Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().startsWith("prepare") && args != null && args.length > 0 && args[0] instanceof String) {
+            DbTimeTracker.recordPrepared((String) args[0]);
+        }
+        Object result = method.invoke(target, args);
+        if (result instanceof Statement && method.getReturnType().isInterface()) {
+            // Statement, PreparedStatement or CallableStatement, whichever the method declares
+            return proxy(method.getReturnType(), result, TimedDataSource::invokeOnStatement);
+        }
+        return result;
+    }
+
+    private static Object invokeOnStatement(Object target, Method method, Object[] args) throws Throwable {
+        if (!method.getName().startsWith("execute")) {
+            return method.invoke(target, args);
+        }
+        long debut = System.nanoTime();
+        try {
+            return method.invoke(target, args);
+        } finally {
+            DbTimeTracker.recordStatement(System.nanoTime() - debut);
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, Delegate delegate) {
+        return proxy(type, new Class<?>[] {type}, target, delegate);
+    }
+
+    private static <T> T proxy(Class<T> type, Class<?>[] types, Object target, Delegate delegate) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    try {
+                        return delegate.invoke(target, method, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(), types, handler));
+    }
+
+    @FunctionalInterface
+    private interface Delegate {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
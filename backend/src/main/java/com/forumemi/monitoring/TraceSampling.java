@@ -0,0 +1,59 @@
+package com.forumemi.monitoring;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Runtime switch for sampled DEBUG tracing: a share of the requests (taux, 0 to 1) gets DEBUG logging on
+// the chosen logger prefixes whatever their configured level. Static because the logback turbo filter
+// reading it is created by logback, not by Spring.
+public final class TraceSampling {
+
+    public static final String MDC_KEY = "trace";
+
+    private static volatile Config config = new Config(0, List.of());
+
+    private TraceSampling() {}
+
+    public static void configure(double taux, List<String> loggers) {
+        if (taux < 0 || taux > 1) {
+            throw new IllegalArgumentException("Le taux d'échantillonnage doit être compris entre 0 et 1");
+        }
+        config = new Config(taux, loggers == null ? List.of() : List.copyOf(loggers));
+    }
+
+    public static double getTaux() {
+        return config.taux;
+    }
+
+    public static List<String> getLoggers() {
+        return config.loggers;
+    }
+
+    static boolean active() {
+        return config.taux > 0;
+    }
+
+    static boolean sample() {
+        double taux = config.taux;
+        return taux > 0 && (taux >= 1 || ThreadLocalRandom.current().nextDouble() < taux);
+    }
+
+    static boolean traced(String loggerName) {
+        for (String prefix : config.loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Config {
+        private final double taux;
+        private final List<String> loggers;
+
+        Config(double taux, List<String> loggers) {
+            this.taux = taux;
+            this.loggers = loggers;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.forumemi.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+// Draws whether this request is traced, before the security filters so their DEBUG output is included.
+// The decision travels in the MDC, where the turbo filter reads it and the JSON log lines show it.
+public class TraceSamplingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!TraceSampling.sample()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(TraceSampling.MDC_KEY, "echantillon");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(TraceSampling.MDC_KEY);
+        }
+    }
+}
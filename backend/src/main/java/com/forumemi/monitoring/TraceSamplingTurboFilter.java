@@ -0,0 +1,24 @@
+package com.forumemi.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+// Lets DEBUG events through for sampled requests on the traced loggers. Consulted on every logging call,
+// isDebugEnabled() included, so the common case (sampling off) is a single volatile read.
+public class TraceSamplingTurboFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!TraceSampling.active() || level.toInt() != Level.DEBUG_INT) {
+            return FilterReply.NEUTRAL;
+        }
+        if (MDC.get(TraceSampling.MDC_KEY) == null || !TraceSampling.traced(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.ACCEPT;
+    }
+}
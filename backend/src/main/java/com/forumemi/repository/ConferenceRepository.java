@@ -1,10 +1,42 @@
 
 package com.forumemi.repository;
 
+import com.forumemi.dto.ConferenceCreneau;
+import com.forumemi.dto.IntervenantCreneau;
 import com.forumemi.model.Conference;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ConferenceRepository extends JpaRepository<Conference, Long> {
+    @EntityGraph(attributePaths = {"salle", "intervenants", "intervenants.entreprise"})
+    @Query("select c from Conference c order by c.dateDebut")
+    List<Conference> findAllWithDetails();
+
+    @EntityGraph(attributePaths = {"salle", "intervenants", "intervenants.entreprise"})
+    @Query("select c from Conference c where c.dateDebut >= :debut and c.dateDebut < :fin order by c.dateDebut")
+    List<Conference> findProgramme(@Param("debut") LocalDateTime debut, @Param("fin") LocalDateTime fin);
+
+    @EntityGraph(attributePaths = {"salle", "intervenants", "intervenants.entreprise"})
+    Optional<Conference> findWithDetailsById(Long id);
+
+    @EntityGraph(attributePaths = {"salle", "intervenants"})
+    List<Conference> findWithDetailsByIdIn(Collection<Long> ids);
+
+    @Query("select c.id as id, s.id as salleId, c.dateDebut as dateDebut, c.dateFin as dateFin " +
+           "from Conference c join c.salle s")
+    List<ConferenceCreneau> findAllCreneaux();
+
+    @Query("select c.id as conferenceId, i.id as intervenantId, c.dateDebut as dateDebut, c.dateFin as dateFin " +
+           "from Conference c join c.intervenants i where i.id in :intervenantIds")
+    List<IntervenantCreneau> findCreneauxIntervenants(@Param("intervenantIds") Collection<Long> intervenantIds);
+
+    boolean existsByIntervenantsId(Long intervenantId);
 }
@@ -1,10 +1,40 @@
 
 package com.forumemi.repository;
 
+import com.forumemi.dto.ContratFait;
+import com.forumemi.dto.ContratResponse;
 import com.forumemi.model.Contrat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContratRepository extends JpaRepository<Contrat, String> {
+    // partenaire is the inverse side of a one-to-one, so it would otherwise be loaded with one select per contract
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Contrat c left join fetch c.partenaire p left join fetch p.evenement order by c.id")
+    Stream<Contrat> streamAll();
+
+    @Query("select new com.forumemi.dto.ContratResponse(c.id, c.montant, c.type, c.date, p.id, p.nom) " +
+           "from Contrat c left join c.partenaire p order by c.date desc, c.id")
+    List<ContratResponse> findAllResponses();
+
+    @Query("select new com.forumemi.dto.ContratResponse(c.id, c.montant, c.type, c.date, p.id, p.nom) " +
+           "from Contrat c left join c.partenaire p where c.id = :id")
+    Optional<ContratResponse> findResponseById(@Param("id") String id);
+
+    // one row per contract with what the sponsoring rollups group on
+    @Query("select c.id as id, c.montant as montant, c.type as type, c.date as date, p.id as partenaireId, e.id as evenementId " +
+           "from Contrat c left join c.partenaire p left join p.evenement e")
+    List<ContratFait> findAllFaits();
 }
@@ -1,11 +1,30 @@
 
 package com.forumemi.repository;
 
+import com.forumemi.dto.EntrepriseResponse;
 import com.forumemi.model.Entreprise;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface EntrepriseRepository extends JpaRepository<Entreprise, Long> {
+    @Query("select new com.forumemi.dto.EntrepriseResponse(e.id, e.nom) " +
+           "from Entreprise e where e.id > :after order by e.id")
+    List<EntrepriseResponse> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+
     boolean existsByNom(String nom);
+
+    @Query("select e.nom from Entreprise e where e.nom in :noms")
+    List<String> findExistingNoms(@Param("noms") Collection<String> noms);
+
+    @Query("select new com.forumemi.dto.EntrepriseResponse(e.id, e.nom) from Entreprise e where e.nom in :noms")
+    List<EntrepriseResponse> findByNomIn(@Param("noms") Collection<String> noms);
+
+    @Query("select new com.forumemi.dto.EntrepriseResponse(e.id, e.nom) from Entreprise e where e.id in :ids")
+    List<EntrepriseResponse> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,9 @@
+package com.forumemi.repository;
+
+import com.forumemi.model.Evenement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EvenementRepository extends JpaRepository<Evenement, Long> {
+}
@@ -1,10 +1,32 @@
 
 package com.forumemi.repository;
 
+import com.forumemi.dto.IntervenantDocument;
+import com.forumemi.dto.IntervenantResponse;
 import com.forumemi.model.Intervenant;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface IntervenantRepository extends JpaRepository<Intervenant, Long> {
+    @Query("select new com.forumemi.dto.IntervenantResponse(i.id, i.nom, i.specialite, i.email, e.id, e.nom) " +
+           "from Intervenant i left join i.entreprise e where i.id > :after order by i.id")
+    List<IntervenantResponse> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select i.id as id, i.nom as nom, i.biographie as biographie, i.specialite as specialite, " +
+           "e.id as entrepriseId, e.nom as entrepriseNom " +
+           "from Intervenant i left join i.entreprise e where i.id > :after order by i.id")
+    List<IntervenantDocument> findDocumentsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select i.email from Intervenant i where i.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByEmailAndIdNot(String email, Long id);
 }
@@ -0,0 +1,16 @@
+package com.forumemi.repository;
+
+import com.forumemi.dto.MembreResume;
+import com.forumemi.model.MembreEquipeLogistique;
+import com.forumemi.model.Utilisateur;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface MembreEquipeLogistiqueRepository extends JpaRepository<MembreEquipeLogistique, Long> {
+    @Query("select m.id as id, m.nom as nom, m.prenom as prenom from MembreEquipeLogistique m where m.role = :role")
+    List<MembreResume> findResumesByRole(@Param("role") Utilisateur.Role role);
+}
@@ -2,10 +2,21 @@
 package com.forumemi.repository;
 
 import com.forumemi.model.Salle;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 
 @Repository
 public interface SalleRepository extends JpaRepository<Salle, Long> {
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "salle-queries")
+    })
+    List<Salle> findAll();
+
     boolean existsByNumero(Integer numero);
 }
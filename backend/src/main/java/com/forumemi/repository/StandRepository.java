@@ -1,13 +1,81 @@
 
 package com.forumemi.repository;
 
+import com.forumemi.dto.StandEtat;
+import com.forumemi.dto.StandResponse;
+import com.forumemi.model.Entreprise;
 import com.forumemi.model.Stand;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface StandRepository extends JpaRepository<Stand, Long> {
-    List<Stand> findByZone(String zone);
+    @Query("select new com.forumemi.dto.StandResponse(s.id, s.numero, s.statut, s.taille, s.zone, e.id, e.nom, s.version) " +
+           "from Stand s left join s.entreprise e where s.id > :after order by s.id")
+    List<StandResponse> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select new com.forumemi.dto.StandResponse(s.id, s.numero, s.statut, s.taille, s.zone, e.id, e.nom, s.version) " +
+           "from Stand s left join s.entreprise e where s.zone = :zone order by s.numero")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "stand-queries")
+    })
+    List<StandResponse> findByZone(@Param("zone") String zone);
+
+    @Query("select s.id as id, s.numero as numero, s.zone as zone, s.taille as taille, s.statut as statut, s.version as version " +
+           "from Stand s")
+    List<StandEtat> findAllEtats();
+
+    @Query("select new com.forumemi.dto.StandResponse(s.id, s.numero, s.statut, s.taille, s.zone, e.id, e.nom, s.version) " +
+           "from Stand s left join s.entreprise e where s.id = :id")
+    Optional<StandResponse> findResponseById(@Param("id") Long id);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "stand-queries")
+    })
     boolean existsByNumero(Integer numero);
+
+    // Candidates for reserveAny; the conditional update below is what actually arbitrates between clients.
+    @Query("select s.id from Stand s where s.statut = com.forumemi.model.Stand.StatutStand.LIBRE " +
+           "and s.taille = :taille and (:zone is null or s.zone = :zone) order by s.numero")
+    List<Long> findLibreIds(@Param("taille") Stand.TailleStand taille, @Param("zone") String zone, Pageable pageable);
+
+    // The WHERE clause makes each transition a compare-and-set: of two concurrent callers exactly one sees 1 row updated.
+    // Bulk updates skip the version check, so they bump the version themselves to fail stale read-modify-write saves.
+    @Modifying(clearAutomatically = true)
+    @Query("update Stand s set s.statut = com.forumemi.model.Stand.StatutStand.RESERVE, s.entreprise = :entreprise, " +
+           "s.version = s.version + 1 where s.id = :id and s.statut = com.forumemi.model.Stand.StatutStand.LIBRE")
+    int reserveIfLibre(@Param("id") Long id, @Param("entreprise") Entreprise entreprise);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Stand s set s.statut = com.forumemi.model.Stand.StatutStand.OCCUPE, s.version = s.version + 1 " +
+           "where s.id = :id and s.statut = com.forumemi.model.Stand.StatutStand.RESERVE and s.entreprise.id = :entrepriseId")
+    int confirmIfReserved(@Param("id") Long id, @Param("entrepriseId") Long entrepriseId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Stand s set s.statut = com.forumemi.model.Stand.StatutStand.LIBRE, s.entreprise = null, s.version = s.version + 1 " +
+           "where s.id = :id and s.statut = com.forumemi.model.Stand.StatutStand.RESERVE and s.entreprise.id = :entrepriseId")
+    int releaseIfReserved(@Param("id") Long id, @Param("entrepriseId") Long entrepriseId);
+
+    @Query("select s.numero from Stand s where s.numero in :numeros")
+    List<Integer> findExistingNumeros(@Param("numeros") Collection<Integer> numeros);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s from Stand s left join fetch s.entreprise order by s.id")
+    Stream<Stand> streamAll();
 }
@@ -1,10 +1,34 @@
 
 package com.forumemi.repository;
 
+import com.forumemi.dto.TacheResponse;
+import com.forumemi.dto.TacheSuivi;
 import com.forumemi.model.Tache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TacheRepository extends JpaRepository<Tache, Long> {
+    @Query("select new com.forumemi.dto.TacheResponse(t.id, t.description, t.statut, t.dateLimite, t.priorite, r.id, r.nom, r.prenom) " +
+           "from Tache t left join t.responsable r where t.id > :after order by t.id")
+    List<TacheResponse> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Tache t left join fetch t.responsable order by t.id")
+    Stream<Tache> streamAll();
+
+    @Query("select t.id as id, t.statut as statut, t.priorite as priorite, t.dateLimite as dateLimite, r.id as responsableId, " +
+           "t.echeanceAtteinte as echeanceAtteinte from Tache t left join t.responsable r where t.statut <> :statut")
+    List<TacheSuivi> findSuivisByStatutNot(@Param("statut") Tache.StatutTache statut);
 }
@@ -1,13 +1,27 @@
 
 package com.forumemi.repository;
 
+import com.forumemi.dto.UtilisateurAuth;
 import com.forumemi.model.Utilisateur;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Repository
 public interface UtilisateurRepository extends JpaRepository<Utilisateur, Long> {
     Optional<Utilisateur> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("select new com.forumemi.dto.UtilisateurAuth(u.id, u.nom, u.prenom, u.email, u.role, u.motDePasse) " +
+           "from Utilisateur u where u.email = :email")
+    Optional<UtilisateurAuth> findAuthByEmail(@Param("email") String email);
+
+    @Transactional
+    @Modifying
+    @Query("update Utilisateur u set u.motDePasse = :motDePasse where u.id = :id")
+    int updateMotDePasse(@Param("id") Long id, @Param("motDePasse") String motDePasse);
 }
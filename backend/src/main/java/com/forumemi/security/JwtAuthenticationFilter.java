@@ -0,0 +1,70 @@
+
+package com.forumemi.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".CLAIMS";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String EVENT_STREAM_PATH = "/api/flux";
+    private static final String TOKEN_PARAMETER = "token";
+
+    private final JwtUtil jwtUtil;
+    private final SecurityContextRepository securityContextRepository;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, SecurityContextRepository securityContextRepository) {
+        this.jwtUtil = jwtUtil;
+        this.securityContextRepository = securityContextRepository;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            jwtUtil.parseToken(token).ifPresent(claims -> authenticate(claims, request, response));
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
+        // browsers' EventSource cannot set headers, so the event stream alone accepts the token as a parameter
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (HttpMethod.GET.matches(request.getMethod()) && EVENT_STREAM_PATH.equals(path)) {
+            return request.getParameter(TOKEN_PARAMETER);
+        }
+        return null;
+    }
+
+    private void authenticate(TokenClaims claims, HttpServletRequest request, HttpServletResponse response) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            claims.getEmail(),
+            null,
+            claims.getRole() != null ? AuthorityUtils.createAuthorityList("ROLE_" + claims.getRole()) : AuthorityUtils.NO_AUTHORITIES
+        );
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        // kept on the request (never in a session) so async and error dispatches see the same principal
+        securityContextRepository.saveContext(context, request, response);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+    }
+}
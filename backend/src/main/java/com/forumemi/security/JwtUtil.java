@@ -3,10 +3,15 @@ package com.forumemi.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class JwtUtil {
@@ -17,44 +22,114 @@ public class JwtUtil {
     @Value("${spring.security.jwt.expiration}")
     private int jwtExpirationMs;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${spring.security.jwt.cache-size:1024}")
+    private int verifiedTokenCacheSize;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new VerifiedTokenCache(verifiedTokenCacheSize);
     }
 
     public String generateToken(String email, String role) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setSubject(email)
                 .claim("role", role)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // Signature is verified once per token while it stays in the LRU cache; callers needing
+    // several claims should keep the returned object instead of using the getters below.
+    public Optional<TokenClaims> parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        TokenClaims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(token);
+            return Optional.empty();
+        }
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            TokenClaims tokenClaims = new TokenClaims(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getExpiration()
+            );
+            verifiedTokens.put(token, tokenClaims);
+            return Optional.of(tokenClaims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return requireClaims(token).getEmail();
     }
 
     public String getRoleFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role", String.class);
+        return requireClaims(token).getRole();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+        return parseToken(token).isPresent();
+    }
+
+    private TokenClaims requireClaims(String token) {
+        return parseToken(token).orElseThrow(() -> new JwtException("Token JWT invalide ou expiré"));
+    }
+
+    private static class VerifiedTokenCache {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, TokenClaims> entries;
+
+        VerifiedTokenCache(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        TokenClaims get(String token) {
+            lock.lock();
+            try {
+                return entries.get(token);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(String token, TokenClaims claims) {
+            lock.lock();
+            try {
+                entries.put(token, claims);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(String token) {
+            lock.lock();
+            try {
+                entries.remove(token);
+            } finally {
+                lock.unlock();
+            }
         }
     }
 }
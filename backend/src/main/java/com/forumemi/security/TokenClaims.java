@@ -0,0 +1,26 @@
+
+package com.forumemi.security;
+
+import java.util.Date;
+
+public class TokenClaims {
+    private final String email;
+    private final String role;
+    private final long expiresAtMillis;
+
+    public TokenClaims(String email, String role, Date expiration) {
+        this.email = email;
+        this.role = role;
+        this.expiresAtMillis = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+    }
+
+    public String getEmail() { return email; }
+    
+    public String getRole() { return role; }
+    
+    public long getExpiresAtMillis() { return expiresAtMillis; }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,201 @@
+
+package com.forumemi.service;
+
+import com.forumemi.dto.BulkResult;
+import com.forumemi.dto.EntrepriseResponse;
+import com.forumemi.dto.LigneErreur;
+import com.forumemi.dto.StandResponse;
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Stand;
+import com.forumemi.repository.EntrepriseRepository;
+import com.forumemi.repository.StandRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// All-or-nothing batch writes: the whole batch is validated first (uniqueness with one IN query),
+// then written through Hibernate's JDBC batching, flushing and clearing every batch_size rows.
+@Service
+public class BulkWriteService {
+
+    @Autowired
+    private StandRepository standRepository;
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Transactional
+    public BulkResult<StandResponse> createStands(List<Stand> stands) {
+        List<LigneErreur> erreurs = validate(stands);
+
+        Set<Integer> numeros = new HashSet<>();
+        for (int i = 0; i < stands.size(); i++) {
+            stands.get(i).setVersion(null);
+            Integer numero = stands.get(i).getNumero();
+            if (numero != null && !numeros.add(numero)) {
+                erreurs.add(new LigneErreur(i, "Numéro de stand en double dans le lot: " + numero));
+            }
+        }
+        Set<Integer> existingNumeros = numeros.isEmpty() ? Set.of() : new HashSet<>(standRepository.findExistingNumeros(numeros));
+        for (int i = 0; i < stands.size(); i++) {
+            if (existingNumeros.contains(stands.get(i).getNumero())) {
+                erreurs.add(new LigneErreur(i, "Le stand " + stands.get(i).getNumero() + " existe déjà"));
+            }
+        }
+        Map<Long, String> noms = new HashMap<>();
+        erreurs.addAll(resolveEntreprises(stands, noms));
+
+        if (!erreurs.isEmpty()) {
+            return new BulkResult<>(List.of(), erreurs);
+        }
+        // the company references are detached by the clear() after each batch: names come from the map
+        return new BulkResult<>(persistAll(stands, stand -> toResponse(stand, noms)), List.of());
+    }
+
+    @Transactional
+    public BulkResult<StandResponse> updateStands(List<Stand> stands) {
+        List<LigneErreur> erreurs = validate(stands);
+
+        List<Long> ids = stands.stream().map(Stand::getId).filter(Objects::nonNull).collect(Collectors.toList());
+        Map<Long, Stand> existingStands = standRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Stand::getId, Function.identity()));
+        for (int i = 0; i < stands.size(); i++) {
+            Stand existingStand = existingStands.get(stands.get(i).getId());
+            if (existingStand == null) {
+                erreurs.add(new LigneErreur(i, "Stand introuvable: " + stands.get(i).getId()));
+            } else if (stands.get(i).getVersion() != null && !stands.get(i).getVersion().equals(existingStand.getVersion())) {
+                erreurs.add(new LigneErreur(i, "Le stand " + existingStand.getId() + " a été modifié entre-temps (version "
+                        + existingStand.getVersion() + ")"));
+            }
+        }
+        Map<Long, String> noms = new HashMap<>();
+        erreurs.addAll(resolveEntreprises(stands, noms));
+
+        if (!erreurs.isEmpty()) {
+            return new BulkResult<>(List.of(), erreurs);
+        }
+        List<StandResponse> updated = new ArrayList<>(stands.size());
+        for (Stand stand : stands) {
+            Stand existingStand = existingStands.get(stand.getId());
+            existingStand.setStatut(stand.getStatut());
+            existingStand.setEntreprise(stand.getEntreprise());
+            updated.add(toResponse(existingStand, noms));
+        }
+        // dirty entities are flushed as batched UPDATEs (hibernate.order_updates) at commit
+        return new BulkResult<>(updated, List.of());
+    }
+
+    @Transactional
+    public BulkResult<EntrepriseResponse> createEntreprises(List<Entreprise> entreprises) {
+        List<LigneErreur> erreurs = validate(entreprises);
+
+        Set<String> noms = new HashSet<>();
+        for (int i = 0; i < entreprises.size(); i++) {
+            String nom = entreprises.get(i).getNom();
+            if (nom != null && !noms.add(nom)) {
+                erreurs.add(new LigneErreur(i, "Entreprise en double dans le lot: " + nom));
+            }
+        }
+        Set<String> existingNoms = noms.isEmpty() ? Set.of() : new HashSet<>(entrepriseRepository.findExistingNoms(noms));
+        for (int i = 0; i < entreprises.size(); i++) {
+            if (existingNoms.contains(entreprises.get(i).getNom())) {
+                erreurs.add(new LigneErreur(i, "L'entreprise " + entreprises.get(i).getNom() + " existe déjà"));
+            }
+        }
+
+        if (!erreurs.isEmpty()) {
+            return new BulkResult<>(List.of(), erreurs);
+        }
+        return new BulkResult<>(persistAll(entreprises, EntrepriseResponse::from), List.of());
+    }
+
+    private <T> List<LigneErreur> validate(List<T> elements) {
+        List<LigneErreur> erreurs = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            for (ConstraintViolation<T> violation : validator.validate(elements.get(i))) {
+                erreurs.add(new LigneErreur(i, violation.getPropertyPath() + ": " + violation.getMessage()));
+            }
+        }
+        return erreurs;
+    }
+
+    // Swaps the id-only companies sent by the client for references, checking existence and loading
+    // the names with one query.
+    private List<LigneErreur> resolveEntreprises(List<Stand> stands, Map<Long, String> noms) {
+        Set<Long> entrepriseIds = stands.stream()
+                .map(Stand::getEntreprise)
+                .filter(Objects::nonNull)
+                .map(Entreprise::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (!entrepriseIds.isEmpty()) {
+            for (EntrepriseResponse entreprise : entrepriseRepository.findExistingIds(entrepriseIds)) {
+                noms.put(entreprise.getId(), entreprise.getNom());
+            }
+        }
+
+        List<LigneErreur> erreurs = new ArrayList<>();
+        for (int i = 0; i < stands.size(); i++) {
+            Entreprise entreprise = stands.get(i).getEntreprise();
+            if (entreprise == null) {
+                continue;
+            }
+            if (entreprise.getId() == null || !noms.containsKey(entreprise.getId())) {
+                erreurs.add(new LigneErreur(i, "Entreprise introuvable: " + entreprise.getId()));
+            } else {
+                stands.get(i).setEntreprise(entityManager.getReference(Entreprise.class, entreprise.getId()));
+            }
+        }
+        return erreurs;
+    }
+
+    private static StandResponse toResponse(Stand stand, Map<Long, String> noms) {
+        Long entrepriseId = stand.getEntreprise() != null ? stand.getEntreprise().getId() : null;
+        return new StandResponse(stand.getId(), stand.getNumero(), stand.getStatut(), stand.getTaille(), stand.getZone(),
+                entrepriseId, entrepriseId != null ? noms.get(entrepriseId) : null, stand.getVersion());
+    }
+
+    private <T, R> List<R> persistAll(List<T> entities, Function<T, R> mapper) {
+        List<R> created = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushBatch(entities, i + 1 - batchSize, i + 1, mapper, created);
+            }
+        }
+        int remaining = entities.size() % batchSize;
+        flushBatch(entities, entities.size() - remaining, entities.size(), mapper, created);
+        return created;
+    }
+
+    private <T, R> void flushBatch(List<T> entities, int from, int to, Function<T, R> mapper, List<R> created) {
+        entityManager.flush();
+        for (int i = from; i < to; i++) {
+            created.add(mapper.apply(entities.get(i)));
+        }
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,251 @@
+package com.forumemi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forumemi.event.StandChangeEvent;
+import com.forumemi.event.TacheChangeEvent;
+import com.forumemi.event.TacheEcheanceEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fans committed stand/task changes out to Server-Sent Events subscribers, and task deadline notifications
+// to the stream of the task's assignee only (matched on the email of the subscriber's token).
+// A change is serialized once, then offered to every subscriber's bounded queue, so publishing never waits
+// on a client. Each queue is drained by the shared sender pool, at most one drain per subscriber at a time;
+// a subscriber whose queue overflows loses its backlog and gets a "resync" event telling it to reload the
+// full state instead.
+@Service
+public class ChangeBroadcaster {
+
+    public static final String TOPIC_STANDS = "stands";
+    public static final String TOPIC_TACHES = "taches";
+    public static final String TOPIC_ECHEANCES = "echeances";
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeBroadcaster.class);
+
+    private static final int MAX_EVENTS_PER_DRAIN = 64;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${forum.sse.max-subscribers:2000}")
+    private int maxSubscribers;
+
+    @Value("${forum.sse.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${forum.sse.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${forum.sse.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${forum.sse.heartbeat:15s}")
+    private Duration heartbeat;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeats;
+
+    @PostConstruct
+    public void init() {
+        senders = Executors.newFixedThreadPool(senderThreads, threadFactory("sse-sender-"));
+        heartbeats = Executors.newSingleThreadScheduledExecutor(threadFactory("sse-heartbeat-"));
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    // Throws RejectedExecutionException when maxSubscribers streams are already open.
+    // lastEventId is the browser's Last-Event-ID on reconnect: past deltas are not kept, so it gets a resync.
+    // email identifies the subscriber for the notifications addressed to one user; null receives none of them.
+    public SseEmitter subscribe(Set<String> topics, String email, String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RejectedExecutionException("Trop d'abonnés au flux");
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), topics, email, bufferSize);
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        if (lastEventId != null) {
+            subscriber.resync.set(true);
+            schedule(subscriber);
+        }
+        return subscriber.emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStandChange(StandChangeEvent event) {
+        publish(TOPIC_STANDS, event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTacheChange(TacheChangeEvent event) {
+        publish(TOPIC_TACHES, event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTacheEcheance(TacheEcheanceEvent event) {
+        if (event.getResponsableEmail() != null) {
+            publish(TOPIC_ECHEANCES, event, event.getResponsableEmail());
+        }
+    }
+
+    private void publish(String topic, Object change) {
+        publish(topic, change, null);
+    }
+
+    // destinataire restricts delivery to the subscribers with that email; null broadcasts to the topic.
+    private void publish(String topic, Object change, String destinataire) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Delta delta;
+        try {
+            delta = new Delta(sequence.incrementAndGet(), topic, objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException e) {
+            log.error("Impossible de sérialiser le changement {}", change, e);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.topics.contains(topic)
+                    || (destinataire != null && !destinataire.equalsIgnoreCase(subscriber.email))) {
+                continue;
+            }
+            if (!subscriber.queue.offer(delta)) {
+                // slow client: what it missed is now unknown, so replace the backlog with one resync
+                subscriber.queue.clear();
+                subscriber.resync.set(true);
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    // Sends a bounded number of events then yields the sender thread, so one busy subscriber cannot
+    // starve the others; re-schedules itself while events remain.
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.resync.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(sequence.get()))
+                        .name("resync")
+                        .data("{}", MediaType.APPLICATION_JSON));
+            }
+            Delta delta;
+            int sent = 0;
+            while (sent < MAX_EVENTS_PER_DRAIN && (delta = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(delta.id))
+                        .name(delta.topic)
+                        .data(delta.json, MediaType.APPLICATION_JSON));
+                sent++;
+            }
+            if (subscriber.ping.getAndSet(false) && sent == 0) {
+                subscriber.emitter.send(SseEmitter.event().comment("ping"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // client went away; the emitter callbacks may not fire until the container notices
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty() || subscriber.resync.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    // Comment lines keep proxies from closing idle streams and reveal dead connections. They go through
+    // the same drain as the deltas so that only one thread ever writes to a given emitter.
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.ping.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Delta {
+        private final long id;
+        private final String topic;
+        private final String json;
+
+        Delta(long id, String topic, String json) {
+            this.id = id;
+            this.topic = topic;
+            this.json = json;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> topics;
+        private final String email;
+        private final BlockingQueue<Delta> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resync = new AtomicBoolean();
+        private final AtomicBoolean ping = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Set<String> topics, String email, int bufferSize) {
+            this.emitter = emitter;
+            this.topics = topics;
+            this.email = email;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
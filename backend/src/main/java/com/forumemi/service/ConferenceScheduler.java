@@ -0,0 +1,298 @@
+
+package com.forumemi.service;
+
+import com.forumemi.dto.IntervenantCreneau;
+import com.forumemi.dto.PlanificationRequest;
+import com.forumemi.dto.PlanificationResponse;
+import com.forumemi.dto.PlanificationResponse.Affectation;
+import com.forumemi.model.Conference;
+import com.forumemi.model.Intervenant;
+import com.forumemi.model.Salle;
+import com.forumemi.repository.ConferenceRepository;
+import com.forumemi.repository.SalleRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Greedy first-fit placement (best-fitting room, earliest acceptable start) run for several
+// conference orderings in parallel on the common fork-join pool; the best plan wins.
+@Service
+public class ConferenceScheduler {
+
+    private static final int RANDOM_ORDERINGS = 12;
+
+    private static final Comparator<Plan> BEST_FIRST = Comparator
+            .comparingInt((Plan plan) -> -plan.affectations.size())
+            .thenComparingLong(plan -> plan.totalShiftMinutes)
+            .thenComparingLong(plan -> plan.wastedSeats);
+
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+
+    @Autowired
+    private SalleRepository salleRepository;
+
+    @Autowired
+    private SalleScheduleIndex salleScheduleIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public PlanificationResponse planifier(PlanificationRequest request) {
+        long startNanos = System.nanoTime();
+
+        Map<Long, Integer> audiences = request.getConferences().stream()
+                .collect(Collectors.toMap(
+                    PlanificationRequest.ConferenceAPlanifier::getConferenceId,
+                    PlanificationRequest.ConferenceAPlanifier::getAudienceAttendue,
+                    Integer::max));
+        List<Talk> talks = conferenceRepository.findWithDetailsByIdIn(audiences.keySet()).stream()
+                .map(conference -> new Talk(conference, audiences.get(conference.getId())))
+                .collect(Collectors.toList());
+        List<Room> rooms = salleRepository.findAll().stream()
+                .map(Room::new)
+                .sorted(Comparator.comparingInt((Room room) -> room.capacite))
+                .collect(Collectors.toList());
+        Map<Long, List<Interval>> speakersBusy = loadSpeakersBusy(talks, audiences.keySet());
+        List<LocalDateTime> grid = grid(request);
+
+        Plan best = orderings(talks, rooms).entrySet().parallelStream()
+                .map(ordering -> place(ordering.getKey(), ordering.getValue(), rooms, speakersBusy, grid, request))
+                .min(BEST_FIRST)
+                .orElse(new Plan("aucune"));
+
+        Set<Long> placed = best.affectations.stream().map(Affectation::getConferenceId).collect(Collectors.toSet());
+        List<Long> nonPlanifiees = audiences.keySet().stream()
+                .filter(id -> !placed.contains(id))
+                .sorted()
+                .collect(Collectors.toList());
+        long dureeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new PlanificationResponse(best.affectations, nonPlanifiees, best.strategie, dureeMs);
+    }
+
+    // The plan was checked against the index when it was computed, but rooms may have been booked since:
+    // every slot is held in the index before writing, as ConferenceController does for a single conference.
+    // False, and nothing written, when one of the holds is refused. The holds are released after the commit,
+    // by then the conferences' own events have booked them.
+    public boolean appliquer(PlanificationResponse planification) {
+        Map<Long, Affectation> affectations = planification.getAffectations().stream()
+                .collect(Collectors.toMap(Affectation::getConferenceId, Function.identity()));
+        List<SalleScheduleIndex.Reservation> reservations = new ArrayList<>();
+        try {
+            for (Affectation affectation : affectations.values()) {
+                Optional<SalleScheduleIndex.Reservation> reservation = salleScheduleIndex.reserver(affectation.getSalleId(),
+                        affectation.getDateDebut(), affectation.getDateFin(), affectation.getConferenceId());
+                if (reservation.isEmpty()) {
+                    return false;
+                }
+                reservations.add(reservation.get());
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Conference conference : conferenceRepository.findAllById(affectations.keySet())) {
+                    Affectation affectation = affectations.get(conference.getId());
+                    conference.setSalle(salleRepository.getReferenceById(affectation.getSalleId()));
+                    conference.setDateDebut(affectation.getDateDebut());
+                    conference.setDateFin(affectation.getDateFin());
+                }
+            });
+            return true;
+        } finally {
+            reservations.forEach(SalleScheduleIndex.Reservation::close);
+        }
+    }
+
+    private Map<Long, List<Interval>> loadSpeakersBusy(List<Talk> talks, Set<Long> batchIds) {
+        Set<Long> speakerIds = talks.stream()
+                .flatMap(talk -> talk.speakerIds.stream())
+                .collect(Collectors.toSet());
+        Map<Long, List<Interval>> busy = new HashMap<>();
+        if (speakerIds.isEmpty()) {
+            return busy;
+        }
+        for (IntervenantCreneau creneau : conferenceRepository.findCreneauxIntervenants(speakerIds)) {
+            if (!batchIds.contains(creneau.getConferenceId())) {
+                busy.computeIfAbsent(creneau.getIntervenantId(), id -> new ArrayList<>())
+                        .add(new Interval(creneau.getDateDebut(), creneau.getDateFin()));
+            }
+        }
+        return busy;
+    }
+
+    private List<LocalDateTime> grid(PlanificationRequest request) {
+        List<LocalDateTime> grid = new ArrayList<>();
+        for (LocalDateTime slot = request.getDebut(); slot.isBefore(request.getFin()); slot = slot.plusMinutes(request.getPasMinutes())) {
+            grid.add(slot);
+        }
+        return grid;
+    }
+
+    private Map<String, List<Talk>> orderings(List<Talk> talks, List<Room> rooms) {
+        Map<String, List<Talk>> orderings = new HashMap<>();
+        orderings.put("audience-decroissante", sorted(talks, Comparator.comparingInt((Talk talk) -> -talk.audience)));
+        orderings.put("duree-decroissante", sorted(talks, Comparator.comparing((Talk talk) -> talk.duree).reversed()));
+        orderings.put("intervenants-decroissants", sorted(talks, Comparator
+                .comparingInt((Talk talk) -> -talk.speakerIds.size())
+                .thenComparingInt(talk -> -talk.audience)));
+        orderings.put("salles-eligibles-croissantes", sorted(talks, Comparator
+                .comparingLong((Talk talk) -> rooms.stream().filter(room -> room.capacite >= talk.audience).count())
+                .thenComparingInt(talk -> -talk.audience)));
+        for (int seed = 0; seed < RANDOM_ORDERINGS; seed++) {
+            List<Talk> shuffled = new ArrayList<>(talks);
+            Collections.shuffle(shuffled, new Random(seed));
+            orderings.put("aleatoire-" + seed, shuffled);
+        }
+        return orderings;
+    }
+
+    private List<Talk> sorted(List<Talk> talks, Comparator<Talk> comparator) {
+        List<Talk> sorted = new ArrayList<>(talks);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    private Plan place(String strategie, List<Talk> ordering, List<Room> rooms, Map<Long, List<Interval>> speakersBusy,
+                       List<LocalDateTime> grid, PlanificationRequest request) {
+        Plan plan = new Plan(strategie);
+        Map<Long, List<Interval>> roomsBooked = new HashMap<>();
+        Map<Long, List<Interval>> speakersBooked = new HashMap<>();
+
+        for (Talk talk : ordering) {
+            placement:
+            for (LocalDateTime debut : candidateStarts(talk, grid, request)) {
+                LocalDateTime fin = debut.plus(talk.duree);
+                if (!speakersFree(talk, debut, fin, speakersBusy, speakersBooked)) {
+                    continue;
+                }
+                // rooms are sorted by capacity, so the first fitting room wastes the fewest seats;
+                // a batch conference that already has a room keeps blocking it until the plan is applied
+                for (Room room : rooms) {
+                    if (room.capacite < talk.audience
+                            || overlapsAny(roomsBooked.get(room.id), debut, fin)
+                            || !salleScheduleIndex.isFree(room.id, debut, fin, talk.id)) {
+                        continue;
+                    }
+                    Interval interval = new Interval(debut, fin);
+                    roomsBooked.computeIfAbsent(room.id, id -> new ArrayList<>()).add(interval);
+                    for (Long speakerId : talk.speakerIds) {
+                        speakersBooked.computeIfAbsent(speakerId, id -> new ArrayList<>()).add(interval);
+                    }
+                    plan.affectations.add(new Affectation(talk.id, room.id, room.numero, debut, fin));
+                    plan.totalShiftMinutes += Math.abs(Duration.between(talk.debutSouhaite, debut).toMinutes());
+                    plan.wastedSeats += room.capacite - talk.audience;
+                    break placement;
+                }
+            }
+        }
+        return plan;
+    }
+
+    // The conference's current start comes first, then the grid of the planning window.
+    private List<LocalDateTime> candidateStarts(Talk talk, List<LocalDateTime> grid, PlanificationRequest request) {
+        List<LocalDateTime> starts = new ArrayList<>(grid.size() + 1);
+        if (!talk.debutSouhaite.isBefore(request.getDebut()) && !talk.debutSouhaite.plus(talk.duree).isAfter(request.getFin())) {
+            starts.add(talk.debutSouhaite);
+        }
+        for (LocalDateTime slot : grid) {
+            if (!slot.plus(talk.duree).isAfter(request.getFin())) {
+                starts.add(slot);
+            }
+        }
+        return starts;
+    }
+
+    private boolean speakersFree(Talk talk, LocalDateTime debut, LocalDateTime fin,
+                                 Map<Long, List<Interval>> speakersBusy, Map<Long, List<Interval>> speakersBooked) {
+        for (Long speakerId : talk.speakerIds) {
+            if (overlapsAny(speakersBusy.get(speakerId), debut, fin) || overlapsAny(speakersBooked.get(speakerId), debut, fin)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean overlapsAny(List<Interval> intervals, LocalDateTime debut, LocalDateTime fin) {
+        if (intervals == null) {
+            return false;
+        }
+        for (Interval interval : intervals) {
+            if (interval.debut.isBefore(fin) && debut.isBefore(interval.fin)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Talk {
+        private final Long id;
+        private final int audience;
+        private final Duration duree;
+        private final LocalDateTime debutSouhaite;
+        private final Set<Long> speakerIds;
+
+        Talk(Conference conference, int audience) {
+            this.id = conference.getId();
+            this.audience = audience;
+            this.duree = Duration.between(conference.getDateDebut(), conference.getDateFin());
+            this.debutSouhaite = conference.getDateDebut();
+            this.speakerIds = conference.getIntervenants() == null ? Set.of() :
+                    conference.getIntervenants().stream().map(Intervenant::getId).collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private static class Room {
+        private final Long id;
+        private final Integer numero;
+        private final int capacite;
+
+        Room(Salle salle) {
+            this.id = salle.getId();
+            this.numero = salle.getNumero();
+            this.capacite = salle.getCapacite();
+        }
+    }
+
+    private static class Interval {
+        private final LocalDateTime debut;
+        private final LocalDateTime fin;
+
+        Interval(LocalDateTime debut, LocalDateTime fin) {
+            this.debut = debut;
+            this.fin = fin;
+        }
+    }
+
+    private static class Plan {
+        private final String strategie;
+        private final List<Affectation> affectations = new ArrayList<>();
+        private long totalShiftMinutes;
+        private long wastedSeats;
+
+        Plan(String strategie) {
+            this.strategie = strategie;
+        }
+    }
+}
@@ -0,0 +1,550 @@
+package com.forumemi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forumemi.dto.EntrepriseResponse;
+import com.forumemi.dto.ImportResume;
+import com.forumemi.dto.LigneErreur;
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Intervenant;
+import com.forumemi.model.Stand;
+import com.forumemi.repository.EntrepriseRepository;
+import com.forumemi.repository.IntervenantRepository;
+import com.forumemi.repository.StandRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+// Streaming CSV import: parse (request thread) -> validate -> dedupe + batch persist, the stages linked
+// by bounded queues so a 100k-row upload only ever holds queueCapacity rows and one batch in memory.
+// Rejected rows are written to the NDJSON report as soon as they are found.
+@Service
+public class CsvImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvImportService.class);
+
+    private static final Row END_OF_ROWS = new Row(-1, Map.of());
+    private static final Candidate END_OF_CANDIDATES = new Candidate(-1, null, null, null);
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private StandRepository standRepository;
+
+    @Autowired
+    private IntervenantRepository intervenantRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${forum.import.batch-size:${spring.jpa.properties.hibernate.jdbc.batch_size:50}}")
+    private int batchSize;
+
+    @Value("${forum.import.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${forum.import.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private Semaphore importSlots;
+    private ExecutorService stageExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        importSlots = new Semaphore(maxConcurrent);
+        // two background stages per running import, so the pool never makes an import wait on another
+        stageExecutor = Executors.newFixedThreadPool(2 * maxConcurrent, importThreadFactory());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stageExecutor.shutdownNow();
+    }
+
+    // Throws RejectedExecutionException, before anything is written, when maxConcurrent imports are running.
+    public ImportResume importer(ImportType type, InputStream input, Charset charset, char separateur,
+                                 OutputStream rapport) {
+        if (!importSlots.tryAcquire()) {
+            throw new RejectedExecutionException("Trop d'imports en cours");
+        }
+        try {
+            return run(type, input, charset, separateur, new Report(rapport));
+        } finally {
+            importSlots.release();
+        }
+    }
+
+    private ImportResume run(ImportType type, InputStream input, Charset charset, char separateur,
+                             Report report) {
+        Pipeline pipeline = new Pipeline();
+        BlockingQueue<Row> rows = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Candidate> candidates = new ArrayBlockingQueue<>(queueCapacity);
+
+        Future<?> validation = stageExecutor.submit(() -> validateStage(type, rows, candidates, report, pipeline));
+        Future<?> persistence = stageExecutor.submit(() -> persistStage(type, candidates, report, pipeline));
+        try {
+            try {
+                parseStage(type, input, charset, separateur, rows, report, pipeline);
+            } catch (PipelineAbortedException e) {
+                // a background stage failed; its cause is reported by await below
+            }
+            await(validation, type, report, pipeline);
+            await(persistence, type, report, pipeline);
+        } catch (InterruptedException e) {
+            pipeline.abort();
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            pipeline.abort();
+            throw e;
+        } finally {
+            validation.cancel(true);
+            persistence.cancel(true);
+        }
+
+        ImportResume resume = new ImportResume(type.getPath(), pipeline.lignes.get(), pipeline.importees.get(),
+                report.count(), pipeline.aborted.get());
+        report.write(resume);
+        return resume;
+    }
+
+    private void await(Future<?> stage, ImportType type, Report report, Pipeline pipeline) throws InterruptedException {
+        try {
+            stage.get();
+        } catch (ExecutionException e) {
+            pipeline.abort();
+            if (!(e.getCause() instanceof PipelineAbortedException)) {
+                logger.error("Import {} interrompu", type.getPath(), e.getCause());
+                report.error(0, "Import interrompu: " + rootMessage(e.getCause()));
+            }
+        }
+    }
+
+    private void parseStage(ImportType type, InputStream input, Charset charset, char separateur,
+                            BlockingQueue<Row> rows, Report report, Pipeline pipeline) throws InterruptedException {
+        try (CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(input, charset)), separateur)) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                report.error(1, "Fichier vide");
+                return;
+            }
+            List<String> colonnes = header.stream()
+                    .map(colonne -> colonne.trim().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toList());
+            if (!colonnes.contains(type.getColonneObligatoire())) {
+                report.error(1, "Colonne obligatoire manquante: " + type.getColonneObligatoire());
+                return;
+            }
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null && !pipeline.aborted.get()) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                pipeline.lignes.incrementAndGet();
+                if (record.size() != colonnes.size()) {
+                    report.error(reader.getRecordLine(), "Nombre de colonnes incorrect: " + record.size()
+                            + " au lieu de " + colonnes.size());
+                    continue;
+                }
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < colonnes.size(); i++) {
+                    String value = record.get(i).trim();
+                    values.put(colonnes.get(i), value.isEmpty() ? null : value);
+                }
+                put(rows, new Row(reader.getRecordLine(), values), pipeline);
+            }
+        } catch (IOException e) {
+            // malformed CSV or broken upload: what has been read so far is still imported
+            report.error(0, e.getMessage());
+        } finally {
+            put(rows, END_OF_ROWS, pipeline);
+        }
+    }
+
+    private void validateStage(ImportType type, BlockingQueue<Row> rows, BlockingQueue<Candidate> candidates,
+                               Report report, Pipeline pipeline) {
+        try {
+            Row row;
+            while ((row = take(rows, pipeline)) != END_OF_ROWS) {
+                Candidate candidate;
+                try {
+                    candidate = toCandidate(type, row);
+                } catch (IllegalArgumentException e) {
+                    report.error(row.ligne, e.getMessage());
+                    continue;
+                }
+                Set<ConstraintViolation<Object>> violations = validator.validate(candidate.entity);
+                if (!violations.isEmpty()) {
+                    report.error(row.ligne, violations.stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .collect(Collectors.joining(", ")));
+                    continue;
+                }
+                put(candidates, candidate, pipeline);
+            }
+            put(candidates, END_OF_CANDIDATES, pipeline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            pipeline.abort();
+            throw e;
+        }
+    }
+
+    private void persistStage(ImportType type, BlockingQueue<Candidate> candidates, Report report, Pipeline pipeline) {
+        try {
+            List<Candidate> batch = new ArrayList<>(batchSize);
+            Candidate candidate;
+            while ((candidate = take(candidates, pipeline)) != END_OF_CANDIDATES) {
+                batch.add(candidate);
+                if (batch.size() == batchSize) {
+                    persistBatch(type, batch, report, pipeline);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                persistBatch(type, batch, report, pipeline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            pipeline.abort();
+            throw e;
+        }
+    }
+
+    private Candidate toCandidate(ImportType type, Row row) {
+        switch (type) {
+            case ENTREPRISES: {
+                Entreprise entreprise = new Entreprise(row.get("nom"));
+                return new Candidate(row.ligne, entreprise, entreprise.getNom(), null);
+            }
+            case STANDS: {
+                Stand stand = new Stand(parseInteger(row.get("numero"), "numero"), row.get("zone"),
+                        parseEnum(Stand.TailleStand.class, row.get("taille"), "taille", Stand.TailleStand.MEDIUM));
+                stand.setStatut(parseEnum(Stand.StatutStand.class, row.get("statut"), "statut", Stand.StatutStand.LIBRE));
+                return new Candidate(row.ligne, stand, stand.getNumero(), row.get("entreprise"));
+            }
+            case INTERVENANTS: {
+                Intervenant intervenant = new Intervenant(row.get("nom"), row.get("biographie"), row.get("specialite"), null);
+                intervenant.setEmail(row.get("email"));
+                intervenant.setTelephone(row.get("telephone"));
+                return new Candidate(row.ligne, intervenant, intervenant.getEmail(), row.get("entreprise"));
+            }
+            default:
+                throw new IllegalStateException("Type d'import non géré: " + type);
+        }
+    }
+
+    // Dedupes within the batch, then against the database with one IN query. Earlier batches are already
+    // committed by the time a batch gets here, so the database check also covers duplicates across batches.
+    private void persistBatch(ImportType type, List<Candidate> batch, Report report, Pipeline pipeline) {
+        Set<Object> cles = new HashSet<>();
+        List<Candidate> uniques = new ArrayList<>(batch.size());
+        for (Candidate candidate : batch) {
+            if (candidate.cle != null && !cles.add(candidate.cle)) {
+                report.error(candidate.ligne, "Doublon dans le fichier: " + candidate.cle);
+            } else {
+                uniques.add(candidate);
+            }
+        }
+
+        Set<Object> existantes = new HashSet<>(findExistingKeys(type, cles));
+        Map<String, Long> entrepriseIds = resolveEntrepriseIds(uniques);
+        List<Candidate> retenus = new ArrayList<>(uniques.size());
+        for (Candidate candidate : uniques) {
+            if (existantes.contains(candidate.cle)) {
+                report.error(candidate.ligne, "Existe déjà: " + candidate.cle);
+            } else if (candidate.entrepriseNom != null && !entrepriseIds.containsKey(candidate.entrepriseNom)) {
+                report.error(candidate.ligne, "Entreprise introuvable: " + candidate.entrepriseNom);
+            } else {
+                retenus.add(candidate);
+            }
+        }
+        if (retenus.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Candidate candidate : retenus) {
+                    if (candidate.entrepriseNom != null) {
+                        Entreprise entreprise = entityManager.getReference(Entreprise.class, entrepriseIds.get(candidate.entrepriseNom));
+                        if (candidate.entity instanceof Stand stand) {
+                            stand.setEntreprise(entreprise);
+                        } else if (candidate.entity instanceof Intervenant intervenant) {
+                            intervenant.setEntreprise(entreprise);
+                        }
+                    }
+                    entityManager.persist(candidate.entity);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            pipeline.importees.addAndGet(retenus.size());
+        } catch (RuntimeException e) {
+            // a constraint the checks above cannot see (e.g. a company already holding a stand) fails the whole batch
+            String message = "Lot rejeté: " + rootMessage(e);
+            for (Candidate candidate : retenus) {
+                report.error(candidate.ligne, message);
+            }
+        }
+    }
+
+    private List<?> findExistingKeys(ImportType type, Set<Object> cles) {
+        if (cles.isEmpty()) {
+            return List.of();
+        }
+        switch (type) {
+            case ENTREPRISES:
+                return entrepriseRepository.findExistingNoms(castAll(cles, String.class));
+            case STANDS:
+                return standRepository.findExistingNumeros(castAll(cles, Integer.class));
+            case INTERVENANTS:
+                return intervenantRepository.findExistingEmails(castAll(cles, String.class));
+            default:
+                return List.of();
+        }
+    }
+
+    private Map<String, Long> resolveEntrepriseIds(List<Candidate> candidates) {
+        Set<String> noms = candidates.stream()
+                .map(candidate -> candidate.entrepriseNom)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (noms.isEmpty()) {
+            return Map.of();
+        }
+        return entrepriseRepository.findByNomIn(noms).stream()
+                .collect(Collectors.toMap(EntrepriseResponse::getNom, EntrepriseResponse::getId, (a, b) -> a));
+    }
+
+    private static <T> Set<T> castAll(Set<Object> values, Class<T> type) {
+        return values.stream().map(type::cast).collect(Collectors.toSet());
+    }
+
+    private static Integer parseInteger(String value, String colonne) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(colonne + ": valeur numérique invalide '" + value + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> enumType, String value, String colonne, E defaut) {
+        if (value == null) {
+            return defaut;
+        }
+        try {
+            return Enum.valueOf(enumType, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(colonne + ": valeur inconnue '" + value + "'");
+        }
+    }
+
+    // Bounded hand-off that gives up once another stage has failed, so no stage blocks forever on a dead peer.
+    private static <T> void put(BlockingQueue<T> queue, T item, Pipeline pipeline) throws InterruptedException {
+        while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+            if (pipeline.aborted.get()) {
+                throw new PipelineAbortedException();
+            }
+        }
+    }
+
+    private static <T> T take(BlockingQueue<T> queue, Pipeline pipeline) throws InterruptedException {
+        T item;
+        while ((item = queue.poll(100, TimeUnit.MILLISECONDS)) == null) {
+            if (pipeline.aborted.get()) {
+                throw new PipelineAbortedException();
+            }
+        }
+        return item;
+    }
+
+    private static String rootMessage(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private static ThreadFactory importThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "csv-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public enum ImportType {
+        ENTREPRISES("entreprises", "nom"),
+        STANDS("stands", "numero"),
+        INTERVENANTS("intervenants", "nom");
+
+        private final String path;
+        private final String colonneObligatoire;
+
+        ImportType(String path, String colonneObligatoire) {
+            this.path = path;
+            this.colonneObligatoire = colonneObligatoire;
+        }
+
+        public String getPath() { return path; }
+        public String getColonneObligatoire() { return colonneObligatoire; }
+
+        public static Optional<ImportType> fromPath(String path) {
+            for (ImportType type : values()) {
+                if (type.path.equalsIgnoreCase(path)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static class PipelineAbortedException extends RuntimeException {
+        PipelineAbortedException() {
+            super("Import interrompu", null, false, false);
+        }
+    }
+
+    private static class Pipeline {
+        private final AtomicBoolean aborted = new AtomicBoolean();
+        private final AtomicLong lignes = new AtomicLong();
+        private final AtomicLong importees = new AtomicLong();
+
+        void abort() {
+            aborted.set(true);
+        }
+    }
+
+    private static class Row {
+        private final long ligne;
+        private final Map<String, String> values;
+
+        Row(long ligne, Map<String, String> values) {
+            this.ligne = ligne;
+            this.values = values;
+        }
+
+        String get(String colonne) {
+            return values.get(colonne);
+        }
+    }
+
+    private static class Candidate {
+        private final long ligne;
+        private final Object entity;
+        private final Object cle;
+        private final String entrepriseNom;
+
+        Candidate(long ligne, Object entity, Object cle, String entrepriseNom) {
+            this.ligne = ligne;
+            this.entity = entity;
+            this.cle = cle;
+            this.entrepriseNom = entrepriseNom;
+        }
+    }
+
+    // Report lines come from all three stages; each one is flushed so the client sees rejections as they happen.
+    // A ReentrantLock rather than synchronized: the parse stage runs on the request thread, which may be a
+    // virtual thread, and blocking socket writes inside a monitor would pin its carrier.
+    private class Report {
+        private final OutputStream output;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long erreurs;
+
+        Report(OutputStream output) {
+            this.output = output;
+        }
+
+        void error(long ligne, String message) {
+            lock.lock();
+            try {
+                erreurs++;
+                write(new LigneErreur(ligne, message));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long count() {
+            lock.lock();
+            try {
+                return erreurs;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void write(Object line) {
+            lock.lock();
+            try {
+                output.write(objectMapper.writeValueAsBytes(line));
+                output.write('\n');
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
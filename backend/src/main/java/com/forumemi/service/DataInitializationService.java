@@ -5,6 +5,7 @@ import com.forumemi.model.*;
 import com.forumemi.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,12 +17,27 @@ public class DataInitializationService implements CommandLineRunner {
     @Autowired
     private SalleRepository salleRepository;
 
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Override
     public void run(String... args) throws Exception {
+        alignSequence("stands_seq", "stands");
+        alignSequence("entreprises_seq", "entreprises");
+        alignSequence("intervenants_seq", "intervenants");
+        initializeStandVersions();
         initializeUsers();
         initializeRooms();
     }
 
+    // Rows created before the version column existed get 0, otherwise optimistic locking treats them as unversioned.
+    private void initializeStandVersions() {
+        jdbcTemplate.update("update stands set version = 0 where version is null");
+    }
+
     private void initializeUsers() {
         if (utilisateurRepository.count() == 0) {
             // Create admin user
@@ -29,7 +45,7 @@ public class DataInitializationService implements CommandLineRunner {
             admin.setNom("Admin");
             admin.setPrenom("Forum EMI");
             admin.setEmail("admin@emi.ac.ma");
-            admin.setMotDePasse("admin123");
+            admin.setMotDePasse(passwordHashingService.encode("admin123"));
             admin.setRole(Utilisateur.Role.ADMIN);
             utilisateurRepository.save(admin);
 
@@ -38,7 +54,7 @@ public class DataInitializationService implements CommandLineRunner {
             membre1.setNom("Alami");
             membre1.setPrenom("Sara");
             membre1.setEmail("sara.alami@emi.ac.ma");
-            membre1.setMotDePasse("sara123");
+            membre1.setMotDePasse(passwordHashingService.encode("sara123"));
             membre1.setRole(Utilisateur.Role.EQUIPIER);
             utilisateurRepository.save(membre1);
 
@@ -46,7 +62,7 @@ public class DataInitializationService implements CommandLineRunner {
             membre2.setNom("Bennani");
             membre2.setPrenom("Ahmed");
             membre2.setEmail("ahmed.bennani@emi.ac.ma");
-            membre2.setMotDePasse("ahmed123");
+            membre2.setMotDePasse(passwordHashingService.encode("ahmed123"));
             membre2.setRole(Utilisateur.Role.EQUIPIER);
             utilisateurRepository.save(membre2);
 
@@ -54,7 +70,7 @@ public class DataInitializationService implements CommandLineRunner {
             membre3.setNom("Chakir");
             membre3.setPrenom("Fatima");
             membre3.setEmail("fatima.chakir@emi.ac.ma");
-            membre3.setMotDePasse("fatima123");
+            membre3.setMotDePasse(passwordHashingService.encode("fatima123"));
             membre3.setRole(Utilisateur.Role.EQUIPIER);
             utilisateurRepository.save(membre3);
 
@@ -62,12 +78,21 @@ public class DataInitializationService implements CommandLineRunner {
             membre4.setNom("Idrissi");
             membre4.setPrenom("Omar");
             membre4.setEmail("omar.idrissi@emi.ac.ma");
-            membre4.setMotDePasse("omar123");
+            membre4.setMotDePasse(passwordHashingService.encode("omar123"));
             membre4.setRole(Utilisateur.Role.EQUIPIER);
             utilisateurRepository.save(membre4);
         }
     }
 
+    // Tables created while ids were IDENTITY columns already hold rows; move the pooled sequence
+    // past them so the first allocated block cannot collide.
+    private void alignSequence(String sequence, String table) {
+        jdbcTemplate.execute(
+            "select setval('" + sequence + "', (select max(id) from " + table + ")) " +
+            "where (select max(id) from " + table + ") >= (select last_value from " + sequence + ")"
+        );
+    }
+
     private void initializeRooms() {
         if (salleRepository.count() == 0) {
             Salle sallePolyvalente = new Salle(1, 480);
@@ -0,0 +1,127 @@
+package com.forumemi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forumemi.dto.ContratResponse;
+import com.forumemi.dto.StandResponse;
+import com.forumemi.dto.TacheResponse;
+import com.forumemi.model.Contrat;
+import com.forumemi.model.Stand;
+import com.forumemi.model.Tache;
+import com.forumemi.repository.ContratRepository;
+import com.forumemi.repository.StandRepository;
+import com.forumemi.repository.TacheRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Full-table exports read through a server-side cursor (fetch size hint, read-only transaction so
+// PostgreSQL keeps the cursor open) and write each row as soon as it is mapped. Rows are detached
+// after writing and the persistence context is cleared every FLUSH_INTERVAL rows, so heap use does
+// not grow with the table.
+@Service
+public class ExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final List<String> STAND_COLUMNS = List.of("id", "numero", "statut", "taille", "zone", "entrepriseId", "entrepriseNom");
+    private static final List<String> TACHE_COLUMNS = List.of("id", "description", "statut", "dateLimite", "priorite", "responsableId", "responsableNom", "responsablePrenom");
+    private static final List<String> CONTRAT_COLUMNS = List.of("id", "montant", "type", "date", "partenaireId", "partenaireNom");
+
+    @Autowired
+    private StandRepository standRepository;
+
+    @Autowired
+    private TacheRepository tacheRepository;
+
+    @Autowired
+    private ContratRepository contratRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void exportStands(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<Stand> stands = standRepository.streamAll()) {
+            write(stands, StandResponse::from, STAND_COLUMNS, stand -> Arrays.asList(
+                    stand.getId(), stand.getNumero(), stand.getStatut(), stand.getTaille(), stand.getZone(),
+                    stand.getEntrepriseId(), stand.getEntrepriseNom()), format, output);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTaches(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<Tache> taches = tacheRepository.streamAll()) {
+            write(taches, TacheResponse::from, TACHE_COLUMNS, tache -> Arrays.asList(
+                    tache.getId(), tache.getDescription(), tache.getStatut(), tache.getDateLimite(), tache.getPriorite(),
+                    tache.getResponsableId(), tache.getResponsableNom(), tache.getResponsablePrenom()), format, output);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportContrats(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<Contrat> contrats = contratRepository.streamAll()) {
+            write(contrats, ContratResponse::from, CONTRAT_COLUMNS, contrat -> Arrays.asList(
+                    contrat.getId(), contrat.getMontant(), contrat.getType(), contrat.getDate(),
+                    contrat.getPartenaireId(), contrat.getPartenaireNom()), format, output);
+        }
+    }
+
+    private <E, D> void write(Stream<E> entities, Function<E, D> mapper, List<String> columns,
+                              Function<D, List<?>> csvRow, ExportFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        CsvWriter csvWriter = new CsvWriter(writer, ',');
+        if (format == ExportFormat.CSV) {
+            csvWriter.writeRecord(columns);
+        }
+
+        Iterator<E> iterator = entities.iterator();
+        long count = 0;
+        while (iterator.hasNext()) {
+            E entity = iterator.next();
+            D row = mapper.apply(entity);
+            entityManager.detach(entity);
+            if (format == ExportFormat.CSV) {
+                csvWriter.writeRecord(csvRow.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            if (++count % FLUSH_INTERVAL == 0) {
+                // drops the associations fetched alongside the rows and pushes the bytes to the client
+                entityManager.clear();
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    public enum ExportFormat {
+        CSV, NDJSON;
+
+        public static Optional<ExportFormat> fromParam(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+}
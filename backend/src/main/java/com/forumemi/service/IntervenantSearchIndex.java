@@ -0,0 +1,469 @@
+package com.forumemi.service;
+
+import com.forumemi.dto.Facette;
+import com.forumemi.dto.IntervenantDocument;
+import com.forumemi.dto.IntervenantResultat;
+import com.forumemi.dto.RechercheIntervenants;
+import com.forumemi.event.ChangeType;
+import com.forumemi.event.EntrepriseChangeEvent;
+import com.forumemi.event.IntervenantChangeEvent;
+import com.forumemi.repository.IntervenantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// In-memory inverted index over the speakers' nom, specialite, entreprise and biographie, ranked with BM25.
+// Text is folded (lower case, accents removed) so "genie logiciel" finds "Génie Logiciel". Every query term
+// must match, either exactly, as a prefix of an indexed term (search-as-you-type), or, when it matches
+// neither way, within one or two typos. Kept up to date from committed IntervenantChangeEvents, and from
+// EntrepriseChangeEvents so a renamed company is searchable, and shown, under its new name.
+//
+// Postings are int arrays over internal document numbers handed out in increasing order, so they stay
+// sorted without re-sorting. An update leaves a tombstone and appends the new version; once tombstones
+// pile up the arrays are compacted in one pass.
+@Service
+public class IntervenantSearchIndex {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(IntervenantSearchIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    // a match in the name counts three times one in the biography
+    private static final int POIDS_NOM = 3;
+    private static final int POIDS_SPECIALITE = 2;
+    private static final int POIDS_ENTREPRISE = 1;
+    private static final int POIDS_BIOGRAPHIE = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double FACTEUR_PREFIXE = 0.7;
+    private static final double FACTEUR_TYPO = 0.5;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int MAX_FACETTES = 20;
+    private static final int MIN_TOMBSTONES = 1024;
+
+    private static final Pattern SEPARATEURS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern DIACRITIQUES = Pattern.compile("\\p{M}+");
+    private static final Set<String> MOTS_VIDES = Set.of(
+        "au", "aux", "avec", "ce", "ces", "dans", "de", "des", "du", "elle", "en", "est", "et", "il", "la", "le",
+        "les", "leur", "mais", "ou", "par", "pas", "pour", "qui", "sa", "se", "ses", "son", "sont", "sur", "un",
+        "une", "the", "of", "and", "in", "to");
+
+    @Autowired
+    private IntervenantRepository intervenantRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // all guarded by lock
+    private List<Doc> docs = new ArrayList<>();
+    private final Map<Long, Integer> numeros = new HashMap<>();
+    private final TreeMap<String, Postings> dictionnaire = new TreeMap<>();
+    private final Map<Integer, Set<String>> termesParLongueur = new HashMap<>();
+    private long longueurTotale;
+    private int tombstones;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Long after = 0L;
+        List<IntervenantDocument> batch;
+        do {
+            batch = intervenantRepository.findDocumentsAfter(after, PageRequest.of(0, LOAD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (IntervenantDocument document : batch) {
+                    put(document.getId(), document.getNom(), document.getBiographie(), document.getSpecialite(),
+                            document.getEntrepriseId(), document.getEntrepriseNom());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Index de recherche des intervenants chargé: {} intervenants, {} termes", numeros.size(), dictionnaire.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIntervenantChange(IntervenantChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == ChangeType.DELETED) {
+                remove(event.getId());
+            } else {
+                put(event.getId(), event.getNom(), event.getBiographie(), event.getSpecialite(),
+                        event.getEntrepriseId(), event.getEntrepriseNom());
+            }
+            if (tombstones > MIN_TOMBSTONES && tombstones > numeros.size() / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Re-indexes the company's speakers from the stored documents; deleting a company deletes its
+    // speakers, which arrive as their own events.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntrepriseChange(EntrepriseChangeEvent event) {
+        if (event.getType() != ChangeType.UPDATED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            List<Doc> renommes = new ArrayList<>();
+            for (Doc doc : docs) {
+                if (doc != null && event.getId().equals(doc.entrepriseId) && !event.getNom().equals(doc.entrepriseNom)) {
+                    renommes.add(doc);
+                }
+            }
+            for (Doc doc : renommes) {
+                put(doc.id, doc.nom, doc.biographie, doc.specialite, doc.entrepriseId, event.getNom());
+            }
+            if (tombstones > MIN_TOMBSTONES && tombstones > numeros.size() / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Blank q lists everyone matching the filters, by name. Facet counts are over the filtered matches.
+    public RechercheIntervenants search(String q, Long entrepriseId, String specialite, int limit) {
+        List<String> termes = new ArrayList<>(new LinkedHashSet<>(analyse(q)));
+        String specialiteCle = specialite == null || specialite.isBlank() ? null : cle(specialite);
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            double[] scores = new double[n];
+            int[] termesTrouves = new int[n];
+            double[] meilleur = new double[n];
+            int[] touches = new int[16];
+            boolean tronquee = false;
+            double longueurMoyenne = numeros.isEmpty() ? 1 : Math.max(1, longueurTotale / (double) numeros.size());
+
+            for (int k = 0; k < termes.size(); k++) {
+                int nbTouches = 0;
+                Expansions expansionsTerme = expansions(termes.get(k));
+                tronquee |= expansionsTerme.tronquee;
+                for (Map.Entry<Postings, Double> expansion : expansionsTerme.postings.entrySet()) {
+                    Postings postings = expansion.getKey();
+                    double idf = Math.log(1 + (numeros.size() - postings.size + 0.5) / (postings.size + 0.5));
+                    double poids = expansion.getValue() * Math.max(idf, 0.01);
+                    for (int i = 0; i < postings.size; i++) {
+                        int numero = postings.docs[i];
+                        Doc doc = docs.get(numero);
+                        // must have matched every previous term
+                        if (doc == null || termesTrouves[numero] != k) {
+                            continue;
+                        }
+                        int tf = postings.frequences[i];
+                        double score = poids * tf * (K1 + 1) / (tf + K1 * (1 - B + B * doc.longueur / longueurMoyenne));
+                        if (meilleur[numero] == 0) {
+                            if (nbTouches == touches.length) {
+                                touches = Arrays.copyOf(touches, nbTouches * 2);
+                            }
+                            touches[nbTouches++] = numero;
+                        }
+                        // a document matched through several expansions of the same term counts once, at its best
+                        meilleur[numero] = Math.max(meilleur[numero], score);
+                    }
+                }
+                for (int i = 0; i < nbTouches; i++) {
+                    int numero = touches[i];
+                    scores[numero] += meilleur[numero];
+                    meilleur[numero] = 0;
+                    termesTrouves[numero] = k + 1;
+                }
+            }
+
+            Comparator<Integer> classement = Comparator.<Integer>comparingDouble(numero -> scores[numero]).reversed()
+                    .thenComparing(numero -> docs.get(numero).nomCle)
+                    .thenComparing(numero -> docs.get(numero).id);
+            PriorityQueue<Integer> meilleurs = new PriorityQueue<>(max + 1, classement.reversed());
+            Map<Long, Facette> entreprises = new HashMap<>();
+            Map<String, Facette> specialites = new HashMap<>();
+            long total = 0;
+            for (int numero = 0; numero < n; numero++) {
+                Doc doc = docs.get(numero);
+                if (doc == null || termesTrouves[numero] != termes.size()
+                        || (entrepriseId != null && !entrepriseId.equals(doc.entrepriseId))
+                        || (specialiteCle != null && !specialiteCle.equals(doc.specialiteCle))) {
+                    continue;
+                }
+                total++;
+                if (doc.entrepriseId != null) {
+                    Facette facette = entreprises.computeIfAbsent(doc.entrepriseId, id -> new Facette(id, doc.entrepriseNom, 0));
+                    facette.setNombre(facette.getNombre() + 1);
+                }
+                if (doc.specialiteCle != null) {
+                    Facette facette = specialites.computeIfAbsent(doc.specialiteCle, cle -> new Facette(null, doc.specialite, 0));
+                    facette.setNombre(facette.getNombre() + 1);
+                }
+                meilleurs.offer(numero);
+                if (meilleurs.size() > max) {
+                    meilleurs.poll();
+                }
+            }
+
+            List<Integer> top = new ArrayList<>(meilleurs);
+            top.sort(classement);
+            List<IntervenantResultat> resultats = new ArrayList<>(top.size());
+            for (int numero : top) {
+                Doc doc = docs.get(numero);
+                resultats.add(new IntervenantResultat(doc.id, doc.nom, doc.specialite, doc.entrepriseId, doc.entrepriseNom, scores[numero]));
+            }
+            return new RechercheIntervenants(total, resultats, facettes(entreprises), facettes(specialites), tronquee);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Postings to scan for one query term, with the factor applied to their scores. Past MAX_EXPANSIONS the
+    // terms found in the most documents are kept and the result is flagged as truncated.
+    private Expansions expansions(String terme) {
+        Expansions expansions = new Expansions();
+        Postings exact = dictionnaire.get(terme);
+        if (exact != null) {
+            expansions.postings.put(exact, 1.0);
+        }
+        expansions.garder(new ArrayList<>(dictionnaire.subMap(terme, false, terme + Character.MAX_VALUE, false).values()),
+                FACTEUR_PREFIXE);
+        if (!expansions.postings.isEmpty()) {
+            return expansions;
+        }
+        int distance = terme.length() >= 8 ? 2 : terme.length() >= 4 ? 1 : 0;
+        List<Postings> typos = new ArrayList<>();
+        for (int longueur = terme.length() - distance; distance > 0 && longueur <= terme.length() + distance; longueur++) {
+            for (String candidat : termesParLongueur.getOrDefault(longueur, Set.of())) {
+                if (proches(terme, candidat, distance)) {
+                    typos.add(dictionnaire.get(candidat));
+                }
+            }
+        }
+        expansions.garder(typos, FACTEUR_TYPO);
+        return expansions;
+    }
+
+    private void put(Long id, String nom, String biographie, String specialite, Long entrepriseId, String entrepriseNom) {
+        remove(id);
+        Map<String, Integer> frequences = new HashMap<>();
+        ajouter(frequences, nom, POIDS_NOM);
+        ajouter(frequences, specialite, POIDS_SPECIALITE);
+        ajouter(frequences, entrepriseNom, POIDS_ENTREPRISE);
+        ajouter(frequences, biographie, POIDS_BIOGRAPHIE);
+
+        int numero = docs.size();
+        Doc doc = new Doc(id, nom, biographie, specialite, entrepriseId, entrepriseNom,
+                frequences.values().stream().mapToInt(Integer::intValue).sum());
+        docs.add(doc);
+        numeros.put(id, numero);
+        longueurTotale += doc.longueur;
+        for (Map.Entry<String, Integer> entry : frequences.entrySet()) {
+            Postings postings = dictionnaire.get(entry.getKey());
+            if (postings == null) {
+                postings = new Postings();
+                dictionnaire.put(entry.getKey(), postings);
+                termesParLongueur.computeIfAbsent(entry.getKey().length(), longueur -> new HashSet<>()).add(entry.getKey());
+            }
+            postings.add(numero, entry.getValue());
+        }
+    }
+
+    private void remove(Long id) {
+        Integer numero = numeros.remove(id);
+        if (numero != null) {
+            longueurTotale -= docs.get(numero).longueur;
+            docs.set(numero, null);
+            tombstones++;
+        }
+    }
+
+    // Renumbers the live documents in their current order, which keeps every postings array sorted.
+    private void compact() {
+        int[] nouveaux = new int[docs.size()];
+        List<Doc> vivants = new ArrayList<>(numeros.size());
+        for (int numero = 0; numero < docs.size(); numero++) {
+            Doc doc = docs.get(numero);
+            if (doc == null) {
+                nouveaux[numero] = -1;
+            } else {
+                nouveaux[numero] = vivants.size();
+                numeros.put(doc.id, vivants.size());
+                vivants.add(doc);
+            }
+        }
+        Iterator<Map.Entry<String, Postings>> entries = dictionnaire.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Postings> entry = entries.next();
+            if (entry.getValue().renumber(nouveaux) == 0) {
+                entries.remove();
+                termesParLongueur.get(entry.getKey().length()).remove(entry.getKey());
+            }
+        }
+        log.debug("Index de recherche des intervenants compacté: {} documents supprimés", tombstones);
+        docs = vivants;
+        tombstones = 0;
+    }
+
+    private static void ajouter(Map<String, Integer> frequences, String texte, int poids) {
+        for (String terme : analyse(texte)) {
+            frequences.merge(terme, poids, Integer::sum);
+        }
+    }
+
+    private static List<String> analyse(String texte) {
+        if (texte == null || texte.isBlank()) {
+            return List.of();
+        }
+        List<String> termes = new ArrayList<>();
+        for (String terme : SEPARATEURS.split(cle(texte))) {
+            if (terme.length() >= 2 && !MOTS_VIDES.contains(terme)) {
+                termes.add(terme);
+            }
+        }
+        return termes;
+    }
+
+    private static String cle(String texte) {
+        return DIACRITIQUES.matcher(Normalizer.normalize(texte, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT).trim();
+    }
+
+    // Optimal string alignment distance (an adjacent transposition is one typo) of at most max, abandoning
+    // as soon as a whole row exceeds it.
+    private static boolean proches(String a, String b, int max) {
+        int[] avantDerniere = new int[b.length() + 1];
+        int[] derniere = new int[b.length() + 1];
+        int[] courante = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            derniere[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            courante[0] = i;
+            int minimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cout = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int valeur = Math.min(Math.min(derniere[j] + 1, courante[j - 1] + 1), derniere[j - 1] + cout);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    valeur = Math.min(valeur, avantDerniere[j - 2] + 1);
+                }
+                courante[j] = valeur;
+                minimum = Math.min(minimum, valeur);
+            }
+            if (minimum > max) {
+                return false;
+            }
+            int[] recycle = avantDerniere;
+            avantDerniere = derniere;
+            derniere = courante;
+            courante = recycle;
+        }
+        return derniere[b.length()] <= max;
+    }
+
+    private static List<Facette> facettes(Map<?, Facette> compteurs) {
+        List<Facette> facettes = new ArrayList<>(compteurs.values());
+        facettes.sort(Comparator.comparingLong(Facette::getNombre).reversed()
+                .thenComparing(Facette::getValeur, Comparator.nullsLast(Comparator.naturalOrder())));
+        return facettes.size() > MAX_FACETTES ? new ArrayList<>(facettes.subList(0, MAX_FACETTES)) : facettes;
+    }
+
+    private static final class Doc {
+        private final Long id;
+        private final String nom;
+        private final String nomCle;
+        // kept to re-index the document when its company is renamed
+        private final String biographie;
+        private final String specialite;
+        private final String specialiteCle;
+        private final Long entrepriseId;
+        private final String entrepriseNom;
+        private final int longueur;
+
+        Doc(Long id, String nom, String biographie, String specialite, Long entrepriseId, String entrepriseNom, int longueur) {
+            this.id = id;
+            this.nom = nom;
+            this.nomCle = nom == null ? "" : cle(nom);
+            this.biographie = biographie;
+            this.specialite = specialite;
+            this.specialiteCle = specialite == null || specialite.isBlank() ? null : cle(specialite);
+            this.entrepriseId = entrepriseId;
+            this.entrepriseNom = entrepriseNom;
+            this.longueur = longueur;
+        }
+    }
+
+    private static final class Expansions {
+        private final Map<Postings, Double> postings = new LinkedHashMap<>();
+        private boolean tronquee;
+
+        void garder(List<Postings> candidats, double facteur) {
+            int place = MAX_EXPANSIONS - postings.size();
+            if (candidats.size() > place) {
+                candidats.sort(Comparator.comparingInt((Postings candidat) -> candidat.size).reversed());
+                candidats = candidats.subList(0, place);
+                tronquee = true;
+            }
+            for (Postings candidat : candidats) {
+                postings.put(candidat, facteur);
+            }
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequences = new int[4];
+        private int size;
+
+        void add(int numero, int frequence) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequences = Arrays.copyOf(frequences, size * 2);
+            }
+            docs[size] = numero;
+            frequences[size] = frequence;
+            size++;
+        }
+
+        // Drops the entries of removed documents (new number -1); returns what is left.
+        int renumber(int[] nouveaux) {
+            int gardes = 0;
+            for (int i = 0; i < size; i++) {
+                int numero = nouveaux[docs[i]];
+                if (numero >= 0) {
+                    docs[gardes] = numero;
+                    frequences[gardes] = frequences[i];
+                    gardes++;
+                }
+            }
+            size = gardes;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+
+package com.forumemi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forumemi.dto.KeysetPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.util.List;
+import java.util.function.Function;
+
+@Service
+public class KeysetPaginationService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public <T> KeysetPage<T> page(KeysetQuery<T> query, Function<T, Long> idExtractor, Long after, int size) {
+        int pageSize = clampPageSize(size);
+        List<T> items = query.fetch(after == null ? 0L : after, PageRequest.of(0, pageSize));
+        Long nextCursor = items.size() < pageSize ? null : idExtractor.apply(items.get(items.size() - 1));
+        return new KeysetPage<>(items, nextCursor);
+    }
+
+    // Writes one JSON document per line, fetching the table one keyset batch at a time so that
+    // only a single batch is ever held in memory.
+    public <T> StreamingResponseBody stream(KeysetQuery<T> query, Function<T, Long> idExtractor, int batchSize) {
+        int pageSize = clampPageSize(batchSize);
+        return outputStream -> {
+            Long cursor = 0L;
+            List<T> batch;
+            do {
+                batch = query.fetch(cursor, PageRequest.of(0, pageSize));
+                for (T item : batch) {
+                    outputStream.write(objectMapper.writeValueAsBytes(item));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                if (!batch.isEmpty()) {
+                    cursor = idExtractor.apply(batch.get(batch.size() - 1));
+                }
+            } while (batch.size() == pageSize);
+        };
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    @FunctionalInterface
+    public interface KeysetQuery<T> {
+        List<T> fetch(Long after, Pageable pageable);
+    }
+}
@@ -0,0 +1,97 @@
+
+package com.forumemi.service;
+
+import com.forumemi.dto.UtilisateurAuth;
+import com.forumemi.event.UtilisateurChangeEvent;
+import com.forumemi.repository.UtilisateurRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Caches login projections by email, including unknown emails, so repeated logins and
+// bursts of unknown addresses do not each cost a join over utilisateurs/membres_equipe_logistique.
+@Service
+public class LoginLookupCache {
+
+    @Autowired
+    private UtilisateurRepository utilisateurRepository;
+
+    @Value("${spring.security.login-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${spring.security.login-cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${spring.security.login-cache.negative-ttl:1m}")
+    private Duration negativeTtl;
+
+    private AsyncCache<String, Optional<UtilisateurAuth>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Optional<UtilisateurAuth>>() {
+                    @Override
+                    public long expireAfterCreate(String email, Optional<UtilisateurAuth> utilisateur, long currentTime) {
+                        return (utilisateur.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, Optional<UtilisateurAuth> utilisateur, long currentTime, long currentDuration) {
+                        return expireAfterCreate(email, utilisateur, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, Optional<UtilisateurAuth> utilisateur, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
+    // Single-flight without holding a lock during the query: the first caller for an email installs an
+    // incomplete future and loads outside the map, concurrent callers wait on that future. A synchronous
+    // cache.get(email, loader) would run the JDBC call inside ConcurrentHashMap.compute, i.e. under a
+    // monitor, which pins the carrier when requests run on virtual threads.
+    public Optional<UtilisateurAuth> findByEmail(String email) {
+        CompletableFuture<Optional<UtilisateurAuth>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<UtilisateurAuth>> existing = cache.asMap().putIfAbsent(email, loading);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            loading.complete(utilisateurRepository.findAuthByEmail(email));
+        } catch (RuntimeException e) {
+            // failed futures are dropped from the cache, the next login retries the query
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        return loading.join();
+    }
+
+    public void evict(String email) {
+        cache.synchronous().invalidate(email);
+    }
+
+    public Cache<String, Optional<UtilisateurAuth>> getCache() {
+        return cache.synchronous();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUtilisateurChange(UtilisateurChangeEvent event) {
+        // after a change of address the old email must stop resolving to this account
+        evict(event.getEmailPrecedent());
+        evict(event.getEmail());
+    }
+}
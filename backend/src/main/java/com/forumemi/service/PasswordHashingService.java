@@ -0,0 +1,133 @@
+
+package com.forumemi.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+@Service
+public class PasswordHashingService {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2([ayb])?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    @Value("${spring.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${spring.security.password.hashing-threads:4}")
+    private int hashingThreads;
+
+    @Value("${spring.security.password.hashing-queue-capacity:200}")
+    private int hashingQueueCapacity;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor hashingExecutor;
+    private String dummyHash;
+
+    @PostConstruct
+    public void init() {
+        passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        // Bounded pool and queue: a login burst queues here (or is rejected) instead of holding
+        // every Tomcat worker on BCrypt.
+        hashingExecutor = new ThreadPoolExecutor(
+            hashingThreads,
+            hashingThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(hashingQueueCapacity),
+            hashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    public String encode(String motDePasse) {
+        return passwordEncoder.encode(motDePasse);
+    }
+
+    // Completes exceptionally with RejectedExecutionException when the hashing queue is full.
+    public CompletableFuture<PasswordCheck> verify(String motDePasse, String motDePasseStocke) {
+        try {
+            return CompletableFuture.supplyAsync(() -> check(motDePasse, motDePasseStocke), hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Same cost as a real check, always rejected: unknown emails must not answer faster than known ones.
+    public CompletableFuture<PasswordCheck> verifyUnknown(String motDePasse) {
+        return verify(motDePasse, dummyHash).thenApply(check -> PasswordCheck.rejected());
+    }
+
+    public boolean isHashed(String motDePasseStocke) {
+        return motDePasseStocke != null && BCRYPT_HASH.matcher(motDePasseStocke).matches();
+    }
+
+    private PasswordCheck check(String motDePasse, String motDePasseStocke) {
+        if (motDePasseStocke == null) {
+            return PasswordCheck.rejected();
+        }
+        if (!isHashed(motDePasseStocke)) {
+            // legacy plaintext row: compare in constant time, then hand back a hash to store
+            boolean matches = MessageDigest.isEqual(
+                motDePasse.getBytes(StandardCharsets.UTF_8),
+                motDePasseStocke.getBytes(StandardCharsets.UTF_8)
+            );
+            return matches ? PasswordCheck.accepted(passwordEncoder.encode(motDePasse)) : PasswordCheck.rejected();
+        }
+        if (!passwordEncoder.matches(motDePasse, motDePasseStocke)) {
+            return PasswordCheck.rejected();
+        }
+        String upgradedHash = passwordEncoder.upgradeEncoding(motDePasseStocke) ? passwordEncoder.encode(motDePasse) : null;
+        return PasswordCheck.accepted(upgradedHash);
+    }
+
+    private static ThreadFactory hashingThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static class PasswordCheck {
+        private final boolean matches;
+        private final String upgradedHash;
+
+        private PasswordCheck(boolean matches, String upgradedHash) {
+            this.matches = matches;
+            this.upgradedHash = upgradedHash;
+        }
+
+        static PasswordCheck accepted(String upgradedHash) {
+            return new PasswordCheck(true, upgradedHash);
+        }
+
+        static PasswordCheck rejected() {
+            return new PasswordCheck(false, null);
+        }
+
+        public boolean matches() { return matches; }
+
+        // Non-null when the stored value is plaintext or was hashed with a lower cost.
+        public String getUpgradedHash() { return upgradedHash; }
+    }
+}
@@ -0,0 +1,250 @@
+
+package com.forumemi.service;
+
+import com.forumemi.dto.ConferenceCreneau;
+import com.forumemi.dto.SalleResponse;
+import com.forumemi.event.ChangeType;
+import com.forumemi.event.ConferenceChangeEvent;
+import com.forumemi.model.Salle;
+import com.forumemi.repository.ConferenceRepository;
+import com.forumemi.repository.SalleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Per-room timeline of bookings ordered by start. Bookings may overlap (legacy rows, concurrent
+// writes), so "is the room free on [debut, fin)" scans the bookings starting between debut minus the
+// room's longest booking and fin: O(log n) plus the few talks in that window.
+//
+// Writes go through reserver: the check and a provisional booking happen together under the write
+// lock, so two requests cannot both see the same slot free. The provisional booking is dropped once
+// the conference is saved (its own event has then booked it) or the save failed.
+@Service
+public class SalleScheduleIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SalleScheduleIndex.class);
+
+    @Autowired
+    private SalleRepository salleRepository;
+
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, RoomTimeline> timelines = new HashMap<>();
+    private final NavigableMap<Integer, List<RoomTimeline>> timelinesByCapacite = new TreeMap<>();
+    private final Map<Long, Booking> bookingsByConference = new HashMap<>();
+    private final AtomicLong reservations = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Salle> salles = salleRepository.findAll();
+        List<ConferenceCreneau> creneaux = conferenceRepository.findAllCreneaux();
+
+        lock.writeLock().lock();
+        try {
+            timelines.clear();
+            timelinesByCapacite.clear();
+            bookingsByConference.clear();
+            for (Salle salle : salles) {
+                RoomTimeline timeline = new RoomTimeline(salle.getId(), salle.getNumero(), salle.getCapacite());
+                timelines.put(salle.getId(), timeline);
+                timelinesByCapacite.computeIfAbsent(salle.getCapacite(), capacite -> new ArrayList<>()).add(timeline);
+            }
+            for (ConferenceCreneau creneau : creneaux) {
+                RoomTimeline timeline = timelines.get(creneau.getSalleId());
+                if (!timeline.isFree(creneau.getDateDebut(), creneau.getDateFin(), null)) {
+                    log.warn("Conférence {} chevauche une autre réservation de la salle {}", creneau.getId(), timeline.numero);
+                }
+                book(creneau.getId(), creneau.getSalleId(), creneau.getDateDebut(), creneau.getDateFin());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Index des salles chargé: {} salles, {} conférences", salles.size(), creneaux.size());
+    }
+
+    public boolean isKnownSalle(Long salleId) {
+        lock.readLock().lock();
+        try {
+            return timelines.containsKey(salleId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isFree(Long salleId, LocalDateTime debut, LocalDateTime fin) {
+        return isFree(salleId, debut, fin, null);
+    }
+
+    // ignoredConferenceId lets an update be checked against every booking except its own.
+    public boolean isFree(Long salleId, LocalDateTime debut, LocalDateTime fin, Long ignoredConferenceId) {
+        lock.readLock().lock();
+        try {
+            RoomTimeline timeline = timelines.get(salleId);
+            return timeline != null && timeline.isFree(debut, fin, ignoredConferenceId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Smallest rooms first, so callers taking the first result get the tightest fit.
+    public List<SalleResponse> findFreeSalles(LocalDateTime debut, LocalDateTime fin, int capaciteMin) {
+        lock.readLock().lock();
+        try {
+            List<SalleResponse> salles = new ArrayList<>();
+            for (List<RoomTimeline> sameCapacite : timelinesByCapacite.tailMap(capaciteMin, true).values()) {
+                for (RoomTimeline timeline : sameCapacite) {
+                    if (timeline.isFree(debut, fin, null)) {
+                        salles.add(new SalleResponse(timeline.salleId, timeline.numero, timeline.capacite));
+                    }
+                }
+            }
+            return salles;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Empty when the slot is taken. Without a room there is nothing to hold: the reservation is a no-op.
+    public Optional<Reservation> reserver(Long salleId, LocalDateTime debut, LocalDateTime fin, Long ignoredConferenceId) {
+        if (salleId == null) {
+            return Optional.of(new Reservation(null));
+        }
+        lock.writeLock().lock();
+        try {
+            RoomTimeline timeline = timelines.get(salleId);
+            if (timeline == null || !timeline.isFree(debut, fin, ignoredConferenceId)) {
+                return Optional.empty();
+            }
+            // negative ids never collide with conference ids
+            Long jeton = -reservations.incrementAndGet();
+            book(jeton, salleId, debut, fin);
+            return Optional.of(new Reservation(jeton));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConferenceChange(ConferenceChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            unbook(event.getId());
+            if (event.getType() != ChangeType.DELETED && event.getSalleId() != null) {
+                book(event.getId(), event.getSalleId(), event.getDateDebut(), event.getDateFin());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void book(Long conferenceId, Long salleId, LocalDateTime debut, LocalDateTime fin) {
+        RoomTimeline timeline = timelines.get(salleId);
+        if (timeline == null) {
+            log.warn("Salle {} inconnue de l'index, conférence {} ignorée", salleId, conferenceId);
+            return;
+        }
+        Booking booking = new Booking(conferenceId, salleId, debut, fin);
+        timeline.bookings.add(booking);
+        Duration duree = Duration.between(debut, fin);
+        if (duree.compareTo(timeline.longest) > 0) {
+            timeline.longest = duree;
+        }
+        bookingsByConference.put(conferenceId, booking);
+    }
+
+    private void unbook(Long conferenceId) {
+        Booking booking = bookingsByConference.remove(conferenceId);
+        if (booking != null) {
+            timelines.get(booking.salleId).bookings.remove(booking);
+        }
+    }
+
+    private static class RoomTimeline {
+        private final Long salleId;
+        private final Integer numero;
+        private final Integer capacite;
+        private final TreeSet<Booking> bookings = new TreeSet<>(Booking.BY_START);
+        // never shrinks on unbook: a longer window only costs a few more comparisons
+        private Duration longest = Duration.ZERO;
+
+        RoomTimeline(Long salleId, Integer numero, Integer capacite) {
+            this.salleId = salleId;
+            this.numero = numero;
+            this.capacite = capacite;
+        }
+
+        // a booking overlapping [debut, fin) starts before fin, and no earlier than debut - longest
+        boolean isFree(LocalDateTime debut, LocalDateTime fin, Long ignoredConferenceId) {
+            for (Booking booking : bookings.subSet(Booking.probe(debut.minus(longest)), true, Booking.probe(fin), false)) {
+                if (booking.fin.isAfter(debut) && !booking.conferenceId.equals(ignoredConferenceId)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Holds a slot until closed; meant for try-with-resources around the save.
+    public final class Reservation implements AutoCloseable {
+        private final Long jeton;
+
+        private Reservation(Long jeton) {
+            this.jeton = jeton;
+        }
+
+        @Override
+        public void close() {
+            if (jeton == null) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                unbook(jeton);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static class Booking {
+        static final Comparator<Booking> BY_START = Comparator
+                .comparing((Booking booking) -> booking.debut)
+                .thenComparing(booking -> booking.conferenceId);
+
+        private final Long conferenceId;
+        private final Long salleId;
+        private final LocalDateTime debut;
+        private final LocalDateTime fin;
+
+        Booking(Long conferenceId, Long salleId, LocalDateTime debut, LocalDateTime fin) {
+            this.conferenceId = conferenceId;
+            this.salleId = salleId;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        // sorts before every real booking starting at debut
+        static Booking probe(LocalDateTime debut) {
+            return new Booking(Long.MIN_VALUE, null, debut, debut);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.forumemi.service;
+
+import com.forumemi.dto.ContratFait;
+import com.forumemi.dto.SponsoringLigne;
+import com.forumemi.dto.SponsoringResponse;
+import com.forumemi.event.ChangeType;
+import com.forumemi.event.ContratChangeEvent;
+import com.forumemi.event.PartenaireChangeEvent;
+import com.forumemi.model.Evenement;
+import com.forumemi.model.TypeContrat;
+import com.forumemi.repository.ContratRepository;
+import com.forumemi.repository.EvenementRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+// Sponsoring totals (count and amount of contracts) per TypeContrat, per Evenement and per month, kept up
+// to date from committed Contrat/Partenaire changes so the dashboard never joins the three tables.
+//
+// Each contract's current facts (amount in cents, type, month, event) are kept; a change takes the
+// contract's old contribution out of the counters and puts the new one in. Applying the same change twice
+// therefore changes nothing. The full scan of a load or a consistency check runs outside the lock; the
+// changes committed meanwhile are applied as usual and also buffered, then replayed on top of the scanned
+// facts, without losing or double-counting any. Counters are adders read without locking; a load or a
+// rebuild fills a fresh set of counters off to the side and publishes it with one volatile write, so a
+// dashboard read never sees them half rebuilt.
+@Service
+public class SponsoringRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(SponsoringRollupService.class);
+
+    // contracts whose partenaire has no evenement
+    private static final long SANS_EVENEMENT = -1L;
+
+    @Autowired
+    private ContratRepository contratRepository;
+
+    @Autowired
+    private EvenementRepository evenementRepository;
+
+    // ReentrantLocks rather than monitors: the listeners run on request threads, virtual in the "virtual" profile
+    private final ReentrantLock verrou = new ReentrantLock();
+    // one scan at a time, without blocking the listeners
+    private final ReentrantLock verification = new ReentrantLock();
+
+    // guarded by verrou; non-null while a scan is running
+    private List<Runnable> tampon;
+    private final Map<String, Fait> faits = new HashMap<>();
+    private final Map<Long, Attribution> partenaires = new HashMap<>();
+    private final Map<String, Long> evenementParContrat = new HashMap<>();
+
+    // compteurs receives the changes (guarded by verrou); publies is what readers see. They are the same
+    // object except between a rebuild and its publication.
+    private Compteurs compteurs = new Compteurs();
+    private volatile Compteurs publies = compteurs;
+
+    private volatile LocalDateTime derniereVerification;
+    private volatile int ecartsDerniereVerification;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        verification.lock();
+        try {
+            List<ContratFait> lignes = scanner();
+            verrou.lock();
+            try {
+                reload(lignes);
+                rejouer();
+                publies = compteurs;
+            } finally {
+                verrou.unlock();
+            }
+        } finally {
+            verification.unlock();
+        }
+        log.info("Agrégats de sponsoring chargés: {} contrats", publies.total.contrats.sum());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContratChange(ContratChangeEvent event) {
+        appliquer(() -> remplacer(event.getId(), () -> {
+            if (event.getType() == ChangeType.DELETED) {
+                faits.remove(event.getId());
+            } else {
+                faits.put(event.getId(), new Fait(event.getMontant(), event.getTypeContrat(), event.getDate()));
+            }
+        }));
+    }
+
+    // A partenaire carries the contract's evenement: moving it moves its contract between events.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartenaireChange(PartenaireChangeEvent event) {
+        appliquer(() -> {
+            Attribution ancienne = event.getType() == ChangeType.DELETED
+                    ? partenaires.remove(event.getId())
+                    : partenaires.put(event.getId(), new Attribution(event.getContratId(), event.getEvenementId()));
+            if (ancienne != null && ancienne.contratId != null) {
+                remplacer(ancienne.contratId, () -> evenementParContrat.remove(ancienne.contratId));
+            }
+            if (event.getType() != ChangeType.DELETED && event.getContratId() != null) {
+                remplacer(event.getContratId(), () -> evenementParContrat.put(event.getContratId(),
+                        event.getEvenementId() != null ? event.getEvenementId() : SANS_EVENEMENT));
+            }
+        });
+    }
+
+    public SponsoringResponse getSponsoring() {
+        Compteurs lus = publies;
+        Map<Long, String> evenements = evenementRepository.findAll().stream()
+                .collect(Collectors.toMap(Evenement::getId, Evenement::getNom));
+        List<SponsoringLigne> types = new ArrayList<>();
+        for (TypeContrat type : TypeContrat.values()) {
+            Cumul cumul = lus.parType.get(type);
+            if (cumul != null && cumul.contrats.sum() > 0) {
+                types.add(ligne(type.name(), type.getDisplayName(), cumul));
+            }
+        }
+        List<SponsoringLigne> parEvenementLignes = lignes(lus.parEvenement, Comparator.naturalOrder(), evenementId ->
+                evenementId == SANS_EVENEMENT ? ligneCle(null, "Sans événement") : ligneCle(evenementId.toString(),
+                        evenements.getOrDefault(evenementId, "Événement " + evenementId)));
+        List<SponsoringLigne> parMoisLignes = lignes(lus.parMois, Comparator.naturalOrder(), mois -> ligneCle(mois.toString(), mois.toString()));
+        return new SponsoringResponse(lus.total.contrats.sum(), lus.total.montant(), types, parEvenementLignes, parMoisLignes,
+                derniereVerification, ecartsDerniereVerification);
+    }
+
+    // Recomputes every total from the database with a parallel aggregation, compares with the live counters
+    // and, on any difference, logs it and resets the counters from the recomputed facts. Returns the number
+    // of differing totals.
+    @Scheduled(fixedDelayString = "${forum.sponsoring.verification-interval:PT1H}",
+               initialDelayString = "${forum.sponsoring.verification-interval:PT1H}")
+    public int verifier() {
+        verification.lock();
+        try {
+            List<ContratFait> lignes = scanner();
+            verrou.lock();
+            try {
+                int ecarts;
+                if (tampon.isEmpty()) {
+                    ecarts = comparer("type", agreger(lignes, ContratFait::getType), copie(compteurs.parType))
+                            + comparer("evenement", agreger(lignes, ligne -> ligne.getEvenementId() != null ? ligne.getEvenementId() : SANS_EVENEMENT), copie(compteurs.parEvenement))
+                            + comparer("mois", agreger(lignes, ligne -> YearMonth.from(ligne.getDate())), copie(compteurs.parMois));
+                    if (ecarts > 0) {
+                        reload(lignes);
+                    }
+                } else {
+                    // the counters already include changes the scan may have missed: rebuild with those
+                    // changes replayed, then compare with the counters as they were
+                    Map<TypeContrat, long[]> avantType = copie(compteurs.parType);
+                    Map<Long, long[]> avantEvenement = copie(compteurs.parEvenement);
+                    Map<YearMonth, long[]> avantMois = copie(compteurs.parMois);
+                    reload(lignes);
+                    rejouer();
+                    ecarts = comparer("type", copie(compteurs.parType), avantType)
+                            + comparer("evenement", copie(compteurs.parEvenement), avantEvenement)
+                            + comparer("mois", copie(compteurs.parMois), avantMois);
+                }
+                rejouer();
+                publies = compteurs;
+                if (ecarts > 0) {
+                    log.warn("Agrégats de sponsoring incohérents ({} écarts), reconstruits depuis la base", ecarts);
+                }
+                derniereVerification = LocalDateTime.now();
+                ecartsDerniereVerification = ecarts;
+                return ecarts;
+            } finally {
+                verrou.unlock();
+            }
+        } finally {
+            verification.unlock();
+        }
+    }
+
+    private void appliquer(Runnable changement) {
+        verrou.lock();
+        try {
+            changement.run();
+            if (tampon != null) {
+                tampon.add(changement);
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    // Starts buffering changes, then reads every contract without holding verrou.
+    private List<ContratFait> scanner() {
+        verrou.lock();
+        try {
+            tampon = new ArrayList<>();
+        } finally {
+            verrou.unlock();
+        }
+        try {
+            return contratRepository.findAllFaits();
+        } catch (RuntimeException e) {
+            verrou.lock();
+            try {
+                tampon = null;
+            } finally {
+                verrou.unlock();
+            }
+            throw e;
+        }
+    }
+
+    // under verrou; replayed changes are idempotent, and are not buffered again
+    private void rejouer() {
+        List<Runnable> changements = tampon;
+        tampon = null;
+        if (changements != null) {
+            changements.forEach(Runnable::run);
+        }
+    }
+
+    // under verrou; the new counters stay unpublished until the caller has replayed the buffered changes
+    private void reload(List<ContratFait> lignes) {
+        faits.clear();
+        partenaires.clear();
+        evenementParContrat.clear();
+        compteurs = new Compteurs();
+        for (ContratFait ligne : lignes) {
+            faits.put(ligne.getId(), new Fait(ligne.getMontant(), ligne.getType(), ligne.getDate()));
+            if (ligne.getPartenaireId() != null) {
+                partenaires.put(ligne.getPartenaireId(), new Attribution(ligne.getId(), ligne.getEvenementId()));
+                evenementParContrat.put(ligne.getId(), ligne.getEvenementId() != null ? ligne.getEvenementId() : SANS_EVENEMENT);
+            }
+            ajouter(contribution(ligne.getId()), 1);
+        }
+    }
+
+    private void remplacer(String contratId, Runnable modification) {
+        Contribution avant = contribution(contratId);
+        modification.run();
+        Contribution apres = contribution(contratId);
+        if (!Objects.equals(avant, apres)) {
+            ajouter(avant, -1);
+            ajouter(apres, 1);
+        }
+    }
+
+    private Contribution contribution(String contratId) {
+        Fait fait = faits.get(contratId);
+        if (fait == null || fait.type == null || fait.mois == null) {
+            return null;
+        }
+        return new Contribution(fait, evenementParContrat.getOrDefault(contratId, SANS_EVENEMENT));
+    }
+
+    private void ajouter(Contribution contribution, int signe) {
+        if (contribution == null) {
+            return;
+        }
+        long centimes = signe * contribution.fait.centimes;
+        compteurs.total.add(signe, centimes);
+        compteurs.parType.computeIfAbsent(contribution.fait.type, type -> new Cumul()).add(signe, centimes);
+        compteurs.parEvenement.computeIfAbsent(contribution.evenementId, id -> new Cumul()).add(signe, centimes);
+        compteurs.parMois.computeIfAbsent(contribution.fait.mois, mois -> new Cumul()).add(signe, centimes);
+    }
+
+    private static <K> Map<K, long[]> agreger(List<ContratFait> lignes, Function<ContratFait, K> cle) {
+        Collector<ContratFait, long[], long[]> cumul = Collector.of(
+                () -> new long[2],
+                (totaux, ligne) -> {
+                    totaux[0]++;
+                    totaux[1] += centimes(ligne.getMontant());
+                },
+                (a, b) -> {
+                    a[0] += b[0];
+                    a[1] += b[1];
+                    return a;
+                });
+        return lignes.parallelStream()
+                .filter(ligne -> ligne.getType() != null && ligne.getDate() != null)
+                .collect(Collectors.groupingBy(cle, cumul));
+    }
+
+    private static <K> Map<K, long[]> copie(Map<K, Cumul> cumuls) {
+        Map<K, long[]> copie = new HashMap<>();
+        cumuls.forEach((cle, cumul) -> copie.put(cle, new long[] {cumul.contrats.sum(), cumul.centimes.sum()}));
+        return copie;
+    }
+
+    private static <K> int comparer(String dimension, Map<K, long[]> attendu, Map<K, long[]> actuel) {
+        Set<K> cles = new HashSet<>(attendu.keySet());
+        cles.addAll(actuel.keySet());
+        int ecarts = 0;
+        for (K cle : cles) {
+            long[] totaux = attendu.getOrDefault(cle, new long[2]);
+            long[] cumul = actuel.getOrDefault(cle, new long[2]);
+            long contrats = cumul[0];
+            long centimes = cumul[1];
+            if (totaux[0] != contrats || totaux[1] != centimes) {
+                log.warn("Sponsoring par {} {} : {} contrats / {} centimes en mémoire, {} / {} en base",
+                        dimension, cle, contrats, centimes, totaux[0], totaux[1]);
+                ecarts++;
+            }
+        }
+        return ecarts;
+    }
+
+    private static <K> List<SponsoringLigne> lignes(Map<K, Cumul> cumuls, Comparator<K> ordre, Function<K, SponsoringLigne> ligne) {
+        List<K> cles = new ArrayList<>(cumuls.keySet());
+        cles.sort(ordre);
+        List<SponsoringLigne> lignes = new ArrayList<>();
+        for (K cle : cles) {
+            Cumul cumul = cumuls.get(cle);
+            if (cumul.contrats.sum() > 0) {
+                SponsoringLigne sponsoringLigne = ligne.apply(cle);
+                sponsoringLigne.setContrats(cumul.contrats.sum());
+                sponsoringLigne.setMontant(cumul.montant());
+                lignes.add(sponsoringLigne);
+            }
+        }
+        return lignes;
+    }
+
+    private static SponsoringLigne ligne(String cle, String libelle, Cumul cumul) {
+        return new SponsoringLigne(cle, libelle, cumul.contrats.sum(), cumul.montant());
+    }
+
+    private static SponsoringLigne ligneCle(String cle, String libelle) {
+        return new SponsoringLigne(cle, libelle, 0, 0);
+    }
+
+    // amounts are summed in cents so that subtracting an amended amount leaves no rounding residue
+    private static long centimes(Double montant) {
+        return montant == null ? 0 : Math.round(montant * 100);
+    }
+
+    private static final class Fait {
+        private final long centimes;
+        private final TypeContrat type;
+        private final YearMonth mois;
+
+        Fait(Double montant, TypeContrat type, LocalDate date) {
+            this.centimes = centimes(montant);
+            this.type = type;
+            this.mois = date != null ? YearMonth.from(date) : null;
+        }
+    }
+
+    private static final class Attribution {
+        private final String contratId;
+        private final Long evenementId;
+
+        Attribution(String contratId, Long evenementId) {
+            this.contratId = contratId;
+            this.evenementId = evenementId;
+        }
+    }
+
+    private static final class Contribution {
+        private final Fait fait;
+        private final long evenementId;
+
+        Contribution(Fait fait, long evenementId) {
+            this.fait = fait;
+            this.evenementId = evenementId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Contribution)) return false;
+            Contribution other = (Contribution) o;
+            return fait.centimes == other.fait.centimes && fait.type == other.fait.type
+                    && Objects.equals(fait.mois, other.fait.mois) && evenementId == other.evenementId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fait.centimes, fait.type, fait.mois, evenementId);
+        }
+    }
+
+    private static final class Compteurs {
+        private final Cumul total = new Cumul();
+        private final Map<TypeContrat, Cumul> parType = new ConcurrentHashMap<>();
+        private final Map<Long, Cumul> parEvenement = new ConcurrentHashMap<>();
+        private final Map<YearMonth, Cumul> parMois = new ConcurrentHashMap<>();
+    }
+
+    private static final class Cumul {
+        private final LongAdder contrats = new LongAdder();
+        private final LongAdder centimes = new LongAdder();
+
+        void add(int signe, long montantCentimes) {
+            contrats.add(signe);
+            centimes.add(montantCentimes);
+        }
+
+        double montant() {
+            return centimes.sum() / 100.0;
+        }
+    }
+}
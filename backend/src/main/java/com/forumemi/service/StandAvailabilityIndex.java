@@ -0,0 +1,239 @@
+package com.forumemi.service;
+
+import com.forumemi.dto.DisponibiliteResponse;
+import com.forumemi.dto.StandEtat;
+import com.forumemi.event.ChangeType;
+import com.forumemi.event.StandChangeEvent;
+import com.forumemi.model.Stand;
+import com.forumemi.repository.StandRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+// Availability of stands per (zone, taille) stripe: one bitset over stand numbers and one counter per
+// statut, each stripe behind its own StampedLock so polls on different zones never contend and counter
+// reads are usually lock-free. Fed from committed StandChangeEvents; the stand version orders events
+// that reach the index out of commit order.
+@Service
+public class StandAvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StandAvailabilityIndex.class);
+
+    private static final int STATUTS = Stand.StatutStand.values().length;
+
+    @Autowired
+    private StandRepository standRepository;
+
+    private final ConcurrentHashMap<StripeKey, Stripe> stripes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Placement> placements = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<StandEtat> etats = standRepository.findAllEtats();
+        for (StandEtat etat : etats) {
+            place(etat.getId(), etat.getNumero(), etat.getZone(), etat.getTaille(), etat.getStatut(), etat.getVersion());
+        }
+        log.info("Index de disponibilité des stands chargé: {} stands, {} zones/tailles", placements.size(), stripes.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStandChange(StandChangeEvent event) {
+        if (event.getType() == ChangeType.DELETED) {
+            remove(event.getId());
+        } else {
+            place(event.getId(), event.getNumero(), event.getZone(), event.getTaille(), event.getStatut(), event.getVersion());
+        }
+    }
+
+    public List<DisponibiliteResponse> getDisponibilites(String zone) {
+        List<DisponibiliteResponse> disponibilites = new ArrayList<>();
+        for (Stripe stripe : stripes.values()) {
+            if (zone == null || zone.equals(stripe.key.zone)) {
+                disponibilites.add(stripe.disponibilite());
+            }
+        }
+        disponibilites.sort(Comparator.comparing(DisponibiliteResponse::getZone, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(DisponibiliteResponse::getTaille));
+        return disponibilites;
+    }
+
+    public Optional<DisponibiliteResponse> getDisponibilite(String zone, Stand.TailleStand taille) {
+        Stripe stripe = stripes.get(new StripeKey(zone, taille));
+        return stripe == null ? Optional.empty() : Optional.of(stripe.disponibilite());
+    }
+
+    // Stand numbers in ascending order, at most limit of them.
+    public int[] findNumeros(String zone, Stand.TailleStand taille, Stand.StatutStand statut, int limit) {
+        Stripe stripe = stripes.get(new StripeKey(zone, taille));
+        return stripe == null ? new int[0] : stripe.numeros(statut, limit);
+    }
+
+    private void place(Long id, Integer numero, String zone, Stand.TailleStand taille, Stand.StatutStand statut, Long version) {
+        if (id == null || numero == null || numero < 0 || taille == null || statut == null) {
+            log.warn("Stand {} ignoré par l'index de disponibilité (numéro {}, taille {}, statut {})", id, numero, taille, statut);
+            return;
+        }
+        long nouvelleVersion = version != null ? version : 0L;
+        StripeKey key = new StripeKey(zone, taille);
+        placements.compute(id, (standId, current) -> {
+            if (current != null && current.version > nouvelleVersion) {
+                return current;
+            }
+            Stripe stripe = stripes.computeIfAbsent(key, Stripe::new);
+            if (current != null && current.key.equals(key) && current.numero == numero) {
+                stripe.move(numero, current.statut, statut);
+            } else {
+                if (current != null) {
+                    stripes.get(current.key).clear(current.numero, current.statut);
+                }
+                stripe.set(numero, statut);
+            }
+            return new Placement(key, numero, statut, nouvelleVersion);
+        });
+    }
+
+    private void remove(Long id) {
+        placements.computeIfPresent(id, (standId, current) -> {
+            stripes.get(current.key).clear(current.numero, current.statut);
+            return null;
+        });
+    }
+
+    private static final class StripeKey {
+        private final String zone;
+        private final Stand.TailleStand taille;
+
+        StripeKey(String zone, Stand.TailleStand taille) {
+            this.zone = zone;
+            this.taille = taille;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof StripeKey)) return false;
+            StripeKey other = (StripeKey) o;
+            return Objects.equals(zone, other.zone) && taille == other.taille;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(zone, taille);
+        }
+    }
+
+    private static final class Placement {
+        private final StripeKey key;
+        private final int numero;
+        private final Stand.StatutStand statut;
+        private final long version;
+
+        Placement(StripeKey key, int numero, Stand.StatutStand statut, long version) {
+            this.key = key;
+            this.numero = numero;
+            this.statut = statut;
+            this.version = version;
+        }
+    }
+
+    private static final class Stripe {
+        private final StripeKey key;
+        private final StampedLock lock = new StampedLock();
+        private final BitSet[] numeros = new BitSet[STATUTS];
+        private final int[] counts = new int[STATUTS];
+
+        Stripe(StripeKey key) {
+            this.key = key;
+            for (int i = 0; i < STATUTS; i++) {
+                numeros[i] = new BitSet();
+            }
+        }
+
+        void set(int numero, Stand.StatutStand statut) {
+            long stamp = lock.writeLock();
+            try {
+                add(numero, statut.ordinal());
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void clear(int numero, Stand.StatutStand statut) {
+            long stamp = lock.writeLock();
+            try {
+                delete(numero, statut.ordinal());
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // A statut change inside the stripe is one critical section, so readers never see the stand missing.
+        void move(int numero, Stand.StatutStand from, Stand.StatutStand to) {
+            long stamp = lock.writeLock();
+            try {
+                delete(numero, from.ordinal());
+                add(numero, to.ordinal());
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        DisponibiliteResponse disponibilite() {
+            long stamp = lock.tryOptimisticRead();
+            int libres = counts[Stand.StatutStand.LIBRE.ordinal()];
+            int reserves = counts[Stand.StatutStand.RESERVE.ordinal()];
+            int occupes = counts[Stand.StatutStand.OCCUPE.ordinal()];
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    libres = counts[Stand.StatutStand.LIBRE.ordinal()];
+                    reserves = counts[Stand.StatutStand.RESERVE.ordinal()];
+                    occupes = counts[Stand.StatutStand.OCCUPE.ordinal()];
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return new DisponibiliteResponse(key.zone, key.taille, libres, reserves, occupes);
+        }
+
+        int[] numeros(Stand.StatutStand statut, int limit) {
+            long stamp = lock.readLock();
+            try {
+                BitSet bits = numeros[statut.ordinal()];
+                int[] result = new int[Math.max(0, Math.min(limit, counts[statut.ordinal()]))];
+                for (int i = 0, numero = bits.nextSetBit(0); i < result.length; i++, numero = bits.nextSetBit(numero + 1)) {
+                    result[i] = numero;
+                }
+                return result;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void add(int numero, int statut) {
+            if (!numeros[statut].get(numero)) {
+                numeros[statut].set(numero);
+                counts[statut]++;
+            }
+        }
+
+        private void delete(int numero, int statut) {
+            if (numeros[statut].get(numero)) {
+                numeros[statut].clear(numero);
+                counts[statut]--;
+            }
+        }
+    }
+}
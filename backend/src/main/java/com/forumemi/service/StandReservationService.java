@@ -0,0 +1,200 @@
+package com.forumemi.service;
+
+import com.forumemi.dto.StandResponse;
+import com.forumemi.event.ChangeType;
+import com.forumemi.event.StandChangeEvent;
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Stand;
+import com.forumemi.repository.EntrepriseRepository;
+import com.forumemi.repository.StandRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Stand state machine LIBRE -> RESERVE -> OCCUPE (and RESERVE -> LIBRE on release). Every transition is a
+// conditional UPDATE, so the database decides the winner when several companies go for the same stand.
+// Plain edits (numero, zone, taille) must carry the version they were made from and are never retried:
+// a concurrent change is reported to the client rather than overwritten.
+@Service
+public class StandReservationService {
+
+    @Autowired
+    private StandRepository standRepository;
+
+    @Autowired
+    private EntrepriseRepository entrepriseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${forum.reservation.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${forum.reservation.backoff-ms:20}")
+    private long backoffMs;
+
+    @Value("${forum.reservation.candidates:20}")
+    private int candidates;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public StandResponse reserve(Long standId, Long entrepriseId) {
+        checkEntreprise(entrepriseId);
+        return transition(standId, () -> standRepository.reserveIfLibre(standId, entityManager.getReference(Entreprise.class, entrepriseId)))
+                .orElseThrow(() -> conflictOrNotFound(standId, "Le stand n'est plus libre"));
+    }
+
+    // Tries the free stands of the requested size in random order so that simultaneous callers spread over
+    // the candidates instead of all racing for the first one; re-reads the candidates with backoff when all
+    // of them were taken in the meantime.
+    public StandResponse reserveAny(Stand.TailleStand taille, String zone, Long entrepriseId) {
+        checkEntreprise(entrepriseId);
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            List<Long> libres = new ArrayList<>(standRepository.findLibreIds(taille, zone, PageRequest.of(0, candidates)));
+            if (libres.isEmpty()) {
+                break;
+            }
+            Collections.shuffle(libres, ThreadLocalRandom.current());
+            for (Long standId : libres) {
+                Optional<StandResponse> reserve = transition(standId,
+                        () -> standRepository.reserveIfLibre(standId, entityManager.getReference(Entreprise.class, entrepriseId)));
+                if (reserve.isPresent()) {
+                    return reserve.get();
+                }
+            }
+            backoff(attempt);
+        }
+        throw new ReservationException(ReservationException.Raison.CONFLIT, "Aucun stand " + taille + " libre");
+    }
+
+    public StandResponse confirm(Long standId, Long entrepriseId) {
+        return transition(standId, () -> standRepository.confirmIfReserved(standId, entrepriseId))
+                .orElseThrow(() -> conflictOrNotFound(standId, "Le stand n'est pas réservé par cette entreprise"));
+    }
+
+    public StandResponse release(Long standId, Long entrepriseId) {
+        return transition(standId, () -> standRepository.releaseIfReserved(standId, entrepriseId))
+                .orElseThrow(() -> conflictOrNotFound(standId, "Le stand n'est pas réservé par cette entreprise"));
+    }
+
+    // Read-modify-write of an existing stand against the version the client read. Statut and entreprise only
+    // change through reserve, confirm and release; an edit that tries to change them is refused.
+    public Optional<StandResponse> update(Long standId, Stand changes) {
+        if (changes.getVersion() == null) {
+            throw new ReservationException(ReservationException.Raison.INVALIDE, "La version du stand est obligatoire");
+        }
+        try {
+            return transactionTemplate.execute(status -> standRepository.findById(standId).map(existingStand -> {
+                if (!changes.getVersion().equals(existingStand.getVersion())) {
+                    throw new ReservationException(ReservationException.Raison.CONFLIT,
+                            "Le stand a été modifié entre-temps (version " + existingStand.getVersion() + ")");
+                }
+                Long entrepriseId = changes.getEntreprise() != null ? changes.getEntreprise().getId() : null;
+                Long entrepriseActuelle = existingStand.getEntreprise() != null ? existingStand.getEntreprise().getId() : null;
+                if ((changes.getStatut() != null && changes.getStatut() != existingStand.getStatut())
+                        || !Objects.equals(entrepriseId, entrepriseActuelle)) {
+                    throw new ReservationException(ReservationException.Raison.INVALIDE,
+                            "Le statut et l'entreprise se modifient par réservation, confirmation ou libération");
+                }
+                existingStand.setNumero(changes.getNumero());
+                existingStand.setZone(changes.getZone());
+                existingStand.setTaille(changes.getTaille());
+                standRepository.saveAndFlush(existingStand);
+                return StandResponse.from(existingStand);
+            }));
+        } catch (OptimisticLockingFailureException e) {
+            // changed between the version check and the flush
+            throw new ReservationException(ReservationException.Raison.CONFLIT, "Le stand a été modifié entre-temps, rechargez-le");
+        } catch (DataIntegrityViolationException e) {
+            throw new ReservationException(ReservationException.Raison.CONFLIT, "Numéro de stand déjà utilisé");
+        }
+    }
+
+    private Optional<StandResponse> transition(Long standId, Supplier<Integer> conditionalUpdate) {
+        try {
+            return transactionTemplate.execute(status -> {
+                if (conditionalUpdate.get() != 1) {
+                    return Optional.<StandResponse>empty();
+                }
+                StandResponse stand = current(standId);
+                // JPQL updates skip StandEntityListener, so the change is announced here; listeners get it after commit
+                eventPublisher.publishEvent(new StandChangeEvent(stand.getId(), stand.getNumero(), stand.getZone(),
+                        stand.getTaille(), stand.getStatut(), stand.getVersion(), ChangeType.UPDATED));
+                return Optional.of(stand);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // entreprise_id is unique: the company already holds another stand
+            throw new ReservationException(ReservationException.Raison.CONFLIT, "L'entreprise a déjà un stand");
+        }
+    }
+
+    // Exponential backoff with full jitter, so retrying clients do not collide again in lockstep.
+    private void backoff(int attempt) {
+        long plafond = backoffMs << Math.min(attempt - 1, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(plafond + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReservationException(ReservationException.Raison.CONFLIT, "Réservation interrompue");
+        }
+    }
+
+    private void checkEntreprise(Long entrepriseId) {
+        if (entrepriseId == null || !entrepriseRepository.existsById(entrepriseId)) {
+            throw new ReservationException(ReservationException.Raison.INTROUVABLE, "Entreprise introuvable: " + entrepriseId);
+        }
+    }
+
+    private ReservationException conflictOrNotFound(Long standId, String message) {
+        if (!standRepository.existsById(standId)) {
+            return new ReservationException(ReservationException.Raison.INTROUVABLE, "Stand introuvable: " + standId);
+        }
+        return new ReservationException(ReservationException.Raison.CONFLIT, message);
+    }
+
+    private StandResponse current(Long standId) {
+        return standRepository.findResponseById(standId)
+                .orElseThrow(() -> new ReservationException(ReservationException.Raison.INTROUVABLE, "Stand introuvable: " + standId));
+    }
+
+    public static class ReservationException extends RuntimeException {
+
+        public enum Raison { INTROUVABLE, CONFLIT, INVALIDE }
+
+        private final Raison raison;
+
+        public ReservationException(Raison raison, String message) {
+            super(message);
+            this.raison = raison;
+        }
+
+        public Raison getRaison() { return raison; }
+    }
+}
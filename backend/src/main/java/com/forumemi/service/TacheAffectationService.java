@@ -0,0 +1,495 @@
+package com.forumemi.service;
+
+import com.forumemi.dto.ChargeMembre;
+import com.forumemi.dto.MembreResume;
+import com.forumemi.dto.ReequilibrageResponse;
+import com.forumemi.dto.ReequilibrageResponse.Reaffectation;
+import com.forumemi.dto.TacheResponse;
+import com.forumemi.dto.TacheSuivi;
+import com.forumemi.event.ChangeType;
+import com.forumemi.event.TacheChangeEvent;
+import com.forumemi.event.UtilisateurChangeEvent;
+import com.forumemi.model.Tache;
+import com.forumemi.model.Utilisateur;
+import com.forumemi.repository.MembreEquipeLogistiqueRepository;
+import com.forumemi.repository.TacheRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Workload of the logistics team, kept in memory from TacheChangeEvent and UtilisateurChangeEvent so
+// that no assignment decision queries the taches table. A member's score is the sum over their open
+// tasks of poids(priorite) x urgence(dateLimite). Urgency only moves when the day changes, so the
+// score is updated incrementally and recomputed once per member per day; all weights are multiples
+// of 0.5, which keeps the running sums exact.
+//
+// Eligible members are MembreEquipeLogistique with the EQUIPIER role. Only the in-memory decision runs
+// under verrou, never the database write: the chosen member is charged at once with a provisional
+// entry, so concurrent decisions see the load, and the entry is dropped once the write has committed
+// (its TacheChangeEvent has then recorded the task) or failed.
+@Service
+public class TacheAffectationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TacheAffectationService.class);
+
+    @Autowired
+    private TacheRepository tacheRepository;
+
+    @Autowired
+    private MembreEquipeLogistiqueRepository membreRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${forum.taches.delai-proche-jours:2}")
+    private int delaiProcheJours;
+
+    private TransactionTemplate transactionTemplate;
+
+    // a ReentrantLock rather than synchronized: the after-commit listeners run on request threads,
+    // which are virtual threads in the "virtual" profile
+    private final ReentrantLock verrou = new ReentrantLock();
+    private final AtomicLong reservations = new AtomicLong();
+
+    // written under verrou, read without it for the load view
+    private final Map<Long, Membre> membres = new ConcurrentHashMap<>();
+    private final Map<Long, Ouverte> ouvertes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<MembreResume> equipiers = membreRepository.findResumesByRole(Utilisateur.Role.EQUIPIER);
+        List<TacheSuivi> taches = tacheRepository.findSuivisByStatutNot(Tache.StatutTache.TERMINEE);
+        verrou.lock();
+        try {
+            for (MembreResume equipier : equipiers) {
+                membres.putIfAbsent(equipier.getId(), new Membre(equipier.getId(), equipier.getNom(), equipier.getPrenom()));
+            }
+            for (TacheSuivi tache : taches) {
+                // an event handled while the queries ran may already have recorded the task
+                retirer(tache.getId());
+                ajouter(new Ouverte(tache.getId(), tache.getStatut(), tache.getPriorite(), tache.getDateLimite(), tache.getResponsableId()));
+            }
+        } finally {
+            verrou.unlock();
+        }
+        log.info("Charge de l'équipe chargée: {} équipiers, {} tâches ouvertes", equipiers.size(), taches.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTacheChange(TacheChangeEvent event) {
+        verrou.lock();
+        try {
+            retirer(event.getId());
+            if (event.getType() != ChangeType.DELETED && event.getStatut() != Tache.StatutTache.TERMINEE) {
+                ajouter(new Ouverte(event.getId(), event.getStatut(), event.getPriorite(), event.getDateLimite(), event.getResponsableId()));
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUtilisateurChange(UtilisateurChangeEvent event) {
+        verrou.lock();
+        try {
+            membres.remove(event.getId());
+            if (event.getType() == ChangeType.DELETED || !event.isMembreEquipe() || event.getRole() != Utilisateur.Role.EQUIPIER) {
+                return;
+            }
+            Membre membre = new Membre(event.getId(), event.getNom(), event.getPrenom());
+            membres.put(membre.id, membre);
+            // tasks the member already holds, e.g. after getting the EQUIPIER role back
+            for (Ouverte ouverte : ouvertes.values()) {
+                if (membre.id.equals(ouverte.responsableId)) {
+                    membre.ajouter(ouverte);
+                }
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public List<ChargeMembre> getCharges() {
+        long jour = LocalDate.now().toEpochDay();
+        List<ChargeMembre> charges = new ArrayList<>();
+        for (Membre membre : membres.values()) {
+            int ouvertesMembre = 0;
+            int enRetard = 0;
+            double score = 0;
+            for (Ouverte ouverte : membre.taches.values()) {
+                // reservations count in the score, not as tasks
+                score += poids(ouverte, jour);
+                if (ouverte.id < 0) {
+                    continue;
+                }
+                ouvertesMembre++;
+                if (ouverte.dateLimite != null && ouverte.dateLimite.toEpochDay() < jour) {
+                    enRetard++;
+                }
+            }
+            charges.add(new ChargeMembre(membre.id, membre.nom, membre.prenom, ouvertesMembre, enRetard, score));
+        }
+        charges.sort(Comparator.comparingDouble(ChargeMembre::getScore).reversed().thenComparing(ChargeMembre::getMembreId));
+        return charges;
+    }
+
+    // Saves a new task; without a responsable it goes to the least-loaded equipier, in the same INSERT.
+    public TacheResponse creer(Tache tache) {
+        Reservation reservation = tache.getResponsable() == null
+                ? reserver(tache.getPriorite(), tache.getDateLimite())
+                : null;
+        try {
+            return transactionTemplate.execute(status -> {
+                if (reservation != null) {
+                    tache.setResponsable(membreRepository.getReferenceById(reservation.membre.id));
+                }
+                return TacheResponse.from(tacheRepository.save(tache));
+            });
+        } finally {
+            liberer(reservation);
+        }
+    }
+
+    // Gives an open task without an eligible responsable to the least-loaded equipier; other tasks
+    // are returned unchanged. Empty when the task does not exist.
+    public Optional<TacheResponse> affecter(Long tacheId) {
+        Ouverte ouverte = ouvertes.get(tacheId);
+        boolean orpheline = ouverte != null && (ouverte.responsableId == null || !membres.containsKey(ouverte.responsableId));
+        Reservation reservation = orpheline ? reserver(ouverte.priorite, ouverte.dateLimite) : null;
+        try {
+            return transactionTemplate.execute(status -> tacheRepository.findById(tacheId).map(tache -> {
+                // the memory may lag behind the row: the row decides
+                boolean affectee = tache.getResponsable() != null && membres.containsKey(tache.getResponsable().getId());
+                if (reservation != null && !affectee && tache.getStatut() != Tache.StatutTache.TERMINEE) {
+                    tache.setResponsable(membreRepository.getReferenceById(reservation.membre.id));
+                    tache = tacheRepository.save(tache);
+                }
+                return TacheResponse.from(tache);
+            }));
+        } finally {
+            liberer(reservation);
+        }
+    }
+
+    // Picks the least-loaded member and charges them with a provisional entry until liberer.
+    private Reservation reserver(Tache.PrioriteTache priorite, LocalDate dateLimite) {
+        verrou.lock();
+        try {
+            Membre membre = moinsCharge(LocalDate.now().toEpochDay());
+            if (membre == null) {
+                return null;
+            }
+            // negative ids never collide with task ids
+            Ouverte provisoire = new Ouverte(-reservations.incrementAndGet(), Tache.StatutTache.EN_ATTENTE, priorite, dateLimite, membre.id);
+            membre.ajouter(provisoire);
+            return new Reservation(membre, provisoire);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private void liberer(Reservation reservation) {
+        if (reservation == null) {
+            return;
+        }
+        verrou.lock();
+        try {
+            reservation.membre.retirer(reservation.provisoire);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    // all open tasks without an eligible responsable, heaviest first
+    public ReequilibrageResponse affecterNonAffectees() {
+        return planifier(false, true);
+    }
+
+    // Same as affecterNonAffectees, then moves tasks not started yet (EN_ATTENTE) from the most to the
+    // least loaded member while that narrows the gap between them. Planned from memory; only the
+    // moved tasks are read and written when appliquer is set.
+    public ReequilibrageResponse reequilibrer(boolean appliquer) {
+        return planifier(true, appliquer);
+    }
+
+    private ReequilibrageResponse planifier(boolean deplacer, boolean appliquer) {
+        List<Reaffectation> reaffectations = new ArrayList<>();
+        double ecartAvant;
+        double ecartApres;
+        verrou.lock();
+        try {
+            long jour = LocalDate.now().toEpochDay();
+            Map<Long, Double> charges = new HashMap<>();
+            Map<Long, List<Ouverte>> enAttente = new HashMap<>();
+            for (Membre membre : membres.values()) {
+                charges.put(membre.id, membre.score(jour));
+                enAttente.put(membre.id, membre.taches.values().stream()
+                        .filter(ouverte -> ouverte.id > 0 && ouverte.statut == Tache.StatutTache.EN_ATTENTE)
+                        .collect(Collectors.toCollection(ArrayList::new)));
+            }
+            ecartAvant = ecart(charges);
+            if (charges.isEmpty()) {
+                return new ReequilibrageResponse(List.of(), 0, 0, appliquer, List.of());
+            }
+
+            List<Ouverte> orphelines = ouvertes.values().stream()
+                    .filter(ouverte -> ouverte.responsableId == null || !membres.containsKey(ouverte.responsableId))
+                    .sorted(Comparator.comparingDouble((Ouverte ouverte) -> poids(ouverte, jour)).reversed()
+                            .thenComparing(ouverte -> ouverte.id))
+                    .collect(Collectors.toList());
+            for (Ouverte ouverte : orphelines) {
+                Long cible = extreme(charges, false);
+                charges.merge(cible, poids(ouverte, jour), Double::sum);
+                reaffectations.add(new Reaffectation(ouverte.id, ouverte.responsableId, cible));
+            }
+
+            if (deplacer) {
+                // each move of a task lighter than the gap lowers the sum of squared loads, so this ends;
+                // the bound is only a guard
+                Map<Long, Long> deplacees = new LinkedHashMap<>();
+                int limite = enAttente.values().stream().mapToInt(List::size).sum();
+                for (int i = 0; i < limite; i++) {
+                    Long max = extreme(charges, true);
+                    Long min = extreme(charges, false);
+                    double ecart = charges.get(max) - charges.get(min);
+                    // the task closest to half the gap; any task lighter than the gap narrows it
+                    Ouverte choisie = null;
+                    double reste = ecart;
+                    for (Ouverte ouverte : enAttente.get(max)) {
+                        double candidat = Math.abs(ecart - 2 * poids(ouverte, jour));
+                        if (candidat < reste) {
+                            choisie = ouverte;
+                            reste = candidat;
+                        }
+                    }
+                    if (choisie == null) {
+                        break;
+                    }
+                    double poids = poids(choisie, jour);
+                    enAttente.get(max).remove(choisie);
+                    enAttente.get(min).add(choisie);
+                    charges.merge(max, -poids, Double::sum);
+                    charges.merge(min, poids, Double::sum);
+                    deplacees.put(choisie.id, min);
+                }
+                deplacees.forEach((id, cible) -> {
+                    Long ancien = ouvertes.get(id).responsableId;
+                    // a task can be moved back to where it started
+                    if (!cible.equals(ancien)) {
+                        reaffectations.add(new Reaffectation(id, ancien, cible));
+                    }
+                });
+            }
+
+            ecartApres = ecart(charges);
+        } finally {
+            verrou.unlock();
+        }
+        // written outside the lock: the events of the commit update the loads
+        List<Reaffectation> ignorees = new ArrayList<>();
+        if (appliquer && !reaffectations.isEmpty()) {
+            ignorees = appliquer(reaffectations);
+            reaffectations.removeAll(ignorees);
+            log.info("Tâches réaffectées: {}, ignorées: {} (écart de charge {} -> {})", reaffectations.size(), ignorees.size(),
+                    ecartAvant, ecartApres);
+        }
+        return new ReequilibrageResponse(reaffectations, ecartAvant, ecartApres, appliquer, ignorees);
+    }
+
+    // As in affecter, the stored row wins: a task whose responsable is no longer the one the move was planned
+    // from (reassigned by hand meanwhile), or which was finished or deleted, is left alone. Returns those moves.
+    private List<Reaffectation> appliquer(List<Reaffectation> reaffectations) {
+        Map<Long, Reaffectation> parTache = reaffectations.stream()
+                .collect(Collectors.toMap(Reaffectation::getTacheId, Function.identity()));
+        return transactionTemplate.execute(status -> {
+            List<Reaffectation> ignorees = new ArrayList<>(reaffectations);
+            List<Tache> taches = tacheRepository.findAllById(parTache.keySet());
+            for (Tache tache : taches) {
+                Reaffectation reaffectation = parTache.get(tache.getId());
+                Long actuel = tache.getResponsable() != null ? tache.getResponsable().getId() : null;
+                if (tache.getStatut() != Tache.StatutTache.TERMINEE && Objects.equals(actuel, reaffectation.getAncienResponsableId())) {
+                    tache.setResponsable(membreRepository.getReferenceById(reaffectation.getNouveauResponsableId()));
+                    ignorees.remove(reaffectation);
+                }
+            }
+            tacheRepository.saveAll(taches);
+            return ignorees;
+        });
+    }
+
+    private Membre moinsCharge(long jour) {
+        Membre choisi = null;
+        for (Membre membre : membres.values()) {
+            if (choisi == null || compare(membre, choisi, jour) < 0) {
+                choisi = membre;
+            }
+        }
+        return choisi;
+    }
+
+    // lower score first, then fewer tasks, then the oldest account
+    private static int compare(Membre a, Membre b, long jour) {
+        int parScore = Double.compare(a.score(jour), b.score(jour));
+        if (parScore != 0) {
+            return parScore;
+        }
+        int parNombre = Integer.compare(a.taches.size(), b.taches.size());
+        return parNombre != 0 ? parNombre : a.id.compareTo(b.id);
+    }
+
+    private static Long extreme(Map<Long, Double> charges, boolean max) {
+        Comparator<Map.Entry<Long, Double>> ordre = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        return (max ? charges.entrySet().stream().max(ordre) : charges.entrySet().stream().min(ordre)).get().getKey();
+    }
+
+    private static double ecart(Map<Long, Double> charges) {
+        if (charges.isEmpty()) {
+            return 0;
+        }
+        double max = charges.values().stream().mapToDouble(Double::doubleValue).max().getAsDouble();
+        double min = charges.values().stream().mapToDouble(Double::doubleValue).min().getAsDouble();
+        return max - min;
+    }
+
+    private void ajouter(Ouverte ouverte) {
+        ouvertes.put(ouverte.id, ouverte);
+        Membre membre = ouverte.responsableId != null ? membres.get(ouverte.responsableId) : null;
+        if (membre != null) {
+            membre.ajouter(ouverte);
+        }
+    }
+
+    private void retirer(Long tacheId) {
+        Ouverte ouverte = ouvertes.remove(tacheId);
+        Membre membre = ouverte != null && ouverte.responsableId != null ? membres.get(ouverte.responsableId) : null;
+        if (membre != null) {
+            membre.retirer(ouverte);
+        }
+    }
+
+    private double poids(Ouverte ouverte, long jour) {
+        return poids(ouverte.priorite) * urgence(ouverte.dateLimite, jour);
+    }
+
+    private static double poids(Tache.PrioriteTache priorite) {
+        if (priorite == null) {
+            return 1;
+        }
+        switch (priorite) {
+            case HIGH:
+                return 4;
+            case MEDIUM:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    private double urgence(LocalDate dateLimite, long jour) {
+        if (dateLimite == null) {
+            return 1;
+        }
+        long jours = dateLimite.toEpochDay() - jour;
+        if (jours < 0) {
+            return 3;
+        }
+        if (jours <= delaiProcheJours) {
+            return 2;
+        }
+        return jours <= 7 ? 1.5 : 1;
+    }
+
+    private static final class Ouverte {
+        private final Long id;
+        private final Tache.StatutTache statut;
+        private final Tache.PrioriteTache priorite;
+        private final LocalDate dateLimite;
+        private final Long responsableId;
+
+        Ouverte(Long id, Tache.StatutTache statut, Tache.PrioriteTache priorite, LocalDate dateLimite, Long responsableId) {
+            this.id = id;
+            this.statut = statut;
+            this.priorite = priorite;
+            this.dateLimite = dateLimite;
+            this.responsableId = responsableId;
+        }
+    }
+
+    private static final class Reservation {
+        private final Membre membre;
+        private final Ouverte provisoire;
+
+        Reservation(Membre membre, Ouverte provisoire) {
+            this.membre = membre;
+            this.provisoire = provisoire;
+        }
+    }
+
+    private final class Membre {
+        private final Long id;
+        private final String nom;
+        private final String prenom;
+        private final Map<Long, Ouverte> taches = new ConcurrentHashMap<>();
+        // guarded by verrou
+        private double score;
+        private long jourScore = Long.MIN_VALUE;
+
+        Membre(Long id, String nom, String prenom) {
+            this.id = id;
+            this.nom = nom;
+            this.prenom = prenom;
+        }
+
+        double score(long jour) {
+            if (jour != jourScore) {
+                score = 0;
+                for (Ouverte ouverte : taches.values()) {
+                    score += poids(ouverte, jour);
+                }
+                jourScore = jour;
+            }
+            return score;
+        }
+
+        void ajouter(Ouverte ouverte) {
+            taches.put(ouverte.id, ouverte);
+            if (jourScore != Long.MIN_VALUE) {
+                score += poids(ouverte, jourScore);
+            }
+        }
+
+        void retirer(Ouverte ouverte) {
+            if (taches.remove(ouverte.id) != null && jourScore != Long.MIN_VALUE) {
+                score -= poids(ouverte, jourScore);
+            }
+        }
+    }
+}
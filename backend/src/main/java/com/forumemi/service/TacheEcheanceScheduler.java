@@ -0,0 +1,238 @@
+package com.forumemi.service;
+
+import com.forumemi.dto.EcheanceResponse;
+import com.forumemi.dto.TacheSuivi;
+import com.forumemi.event.ChangeType;
+import com.forumemi.event.TacheChangeEvent;
+import com.forumemi.event.TacheEcheanceEvent;
+import com.forumemi.model.Tache;
+import com.forumemi.repository.TacheRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Deadline tracking for open tasks without polling the taches table. Each open task sits in two queues
+// keyed by epoch day: the day it becomes due soon (dateLimite - delai-proche) and the day it becomes
+// overdue (dateLimite + 1). A tick only pops the buckets whose day has come, so every task is handled
+// at most once per stage whatever the number of tasks. Entries left behind by a changed or finished
+// task are not searched for: they are recognised and skipped when their bucket is popped.
+//
+// Reaching a stage raises the priority (PROCHE: at least MEDIUM, DEPASSEE: HIGH) and notifies the
+// responsable through a TacheEcheanceEvent, broadcast on the "echeances" SSE topic. The stage is stored on
+// the task in the same transaction and only marked here once it has committed: a failed escalation is
+// queued again for the next tick, and a restart does not notify the stages already reached.
+@Service
+public class TacheEcheanceScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TacheEcheanceScheduler.class);
+
+    @Autowired
+    private TacheRepository tacheRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${forum.taches.delai-proche-jours:2}")
+    private int delaiProcheJours;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final Object verrou = new Object();
+
+    // guarded by verrou
+    private final Map<Long, Suivi> suivis = new HashMap<>();
+    private final TreeMap<Long, List<Long>> proches = new TreeMap<>();
+    private final TreeMap<Long, List<Long>> depassees = new TreeMap<>();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<TacheSuivi> ouvertes = tacheRepository.findSuivisByStatutNot(Tache.StatutTache.TERMINEE);
+        synchronized (verrou) {
+            for (TacheSuivi tache : ouvertes) {
+                planifier(tache.getId(), tache.getStatut(), tache.getPriorite(), tache.getDateLimite(), tache.getResponsableId());
+                Suivi suivi = suivis.get(tache.getId());
+                if (suivi != null) {
+                    suivi.etat = tache.getEcheanceAtteinte();
+                }
+            }
+        }
+        log.info("Échéances chargées: {} tâches ouvertes", ouvertes.size());
+        tick();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTacheChange(TacheChangeEvent event) {
+        synchronized (verrou) {
+            if (event.getType() == ChangeType.DELETED) {
+                suivis.remove(event.getId());
+            } else {
+                planifier(event.getId(), event.getStatut(), event.getPriorite(), event.getDateLimite(), event.getResponsableId());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${forum.taches.echeances-intervalle:PT1M}",
+               initialDelayString = "${forum.taches.echeances-intervalle:PT1M}")
+    public void tick() {
+        long aujourdhui = LocalDate.now().toEpochDay();
+        Map<Long, TacheEcheanceEvent.Etat> atteintes = new HashMap<>();
+        Map<Long, Suivi> suivisAtteints = new HashMap<>();
+        synchronized (verrou) {
+            // overdue first: a task past its deadline is not also reported as due soon
+            pop(depassees, aujourdhui, TacheEcheanceEvent.Etat.DEPASSEE, atteintes, suivisAtteints);
+            pop(proches, aujourdhui, TacheEcheanceEvent.Etat.PROCHE, atteintes, suivisAtteints);
+        }
+        if (!atteintes.isEmpty()) {
+            escalader(atteintes, suivisAtteints);
+        }
+    }
+
+    public List<EcheanceResponse> getEcheances(Long responsableId) {
+        List<EcheanceResponse> echeances = new ArrayList<>();
+        synchronized (verrou) {
+            suivis.forEach((id, suivi) -> {
+                if (suivi.etat != null && (responsableId == null || responsableId.equals(suivi.responsableId))) {
+                    echeances.add(new EcheanceResponse(id, suivi.dateLimite, suivi.priorite, suivi.responsableId, suivi.etat));
+                }
+            });
+        }
+        echeances.sort(Comparator.comparing(EcheanceResponse::getDateLimite).thenComparing(EcheanceResponse::getTacheId));
+        return echeances;
+    }
+
+    private void planifier(Long id, Tache.StatutTache statut, Tache.PrioriteTache priorite, LocalDate dateLimite, Long responsableId) {
+        if (statut == Tache.StatutTache.TERMINEE || dateLimite == null) {
+            suivis.remove(id);
+            return;
+        }
+        Suivi suivi = suivis.get(id);
+        if (suivi != null && suivi.dateLimite.equals(dateLimite)) {
+            // same deadline: keep the stage already reached, including after our own escalation
+            suivi.priorite = priorite;
+            suivi.responsableId = responsableId;
+            return;
+        }
+        suivis.put(id, new Suivi(dateLimite, priorite, responsableId));
+        proches.computeIfAbsent(dateLimite.minusDays(delaiProcheJours).toEpochDay(), jour -> new ArrayList<>()).add(id);
+        depassees.computeIfAbsent(dateLimite.plusDays(1).toEpochDay(), jour -> new ArrayList<>()).add(id);
+    }
+
+    private void pop(TreeMap<Long, List<Long>> file, long aujourdhui, TacheEcheanceEvent.Etat etat,
+                     Map<Long, TacheEcheanceEvent.Etat> atteintes, Map<Long, Suivi> suivisAtteints) {
+        while (!file.isEmpty() && file.firstKey() <= aujourdhui) {
+            Map.Entry<Long, List<Long>> bucket = file.pollFirstEntry();
+            for (Long id : bucket.getValue()) {
+                Suivi suivi = suivis.get(id);
+                if (suivi == null || jourDeclenchement(suivi, etat) != bucket.getKey() || suivi.atteint(etat)) {
+                    continue;
+                }
+                // marked once the escalation has committed; overdue (popped first) wins over due soon
+                if (atteintes.putIfAbsent(id, etat) == null) {
+                    suivisAtteints.put(id, suivi);
+                }
+            }
+        }
+    }
+
+    private long jourDeclenchement(Suivi suivi, TacheEcheanceEvent.Etat etat) {
+        return etat == TacheEcheanceEvent.Etat.DEPASSEE
+                ? suivi.dateLimite.plusDays(1).toEpochDay()
+                : suivi.dateLimite.minusDays(delaiProcheJours).toEpochDay();
+    }
+
+    // Only the tasks still tracked with the same Suivi (deadline unchanged meanwhile) are marked or re-queued.
+    private void escalader(Map<Long, TacheEcheanceEvent.Etat> atteintes, Map<Long, Suivi> suivisAtteints) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> escaladerTaches(atteintes, tacheRepository.findAllById(atteintes.keySet())));
+        } catch (RuntimeException e) {
+            log.error("Escalade des échéances échouée pour {} tâches, nouvel essai au prochain passage", atteintes.size(), e);
+            synchronized (verrou) {
+                atteintes.forEach((id, etat) -> {
+                    Suivi suivi = suivis.get(id);
+                    if (suivi != null && suivi == suivisAtteints.get(id)) {
+                        (etat == TacheEcheanceEvent.Etat.DEPASSEE ? depassees : proches)
+                                .computeIfAbsent(jourDeclenchement(suivi, etat), jour -> new ArrayList<>()).add(id);
+                    }
+                });
+            }
+            return;
+        }
+        synchronized (verrou) {
+            atteintes.forEach((id, etat) -> {
+                Suivi suivi = suivis.get(id);
+                if (suivi != null && suivi == suivisAtteints.get(id) && !suivi.atteint(etat)) {
+                    suivi.etat = etat;
+                }
+            });
+        }
+    }
+
+    // Saved through the entity so the usual TacheChangeEvent reaches the SSE feed and this scheduler;
+    // the notifications are published in the same transaction and go out once it commits.
+    private void escaladerTaches(Map<Long, TacheEcheanceEvent.Etat> atteintes, List<Tache> taches) {
+        for (Tache tache : taches) {
+            TacheEcheanceEvent.Etat etat = atteintes.get(tache.getId());
+            // finished meanwhile, or already notified before a restart
+            if (tache.getStatut() == Tache.StatutTache.TERMINEE
+                    || (tache.getEcheanceAtteinte() != null && tache.getEcheanceAtteinte().compareTo(etat) >= 0)) {
+                continue;
+            }
+            tache.setEcheanceAtteinte(etat);
+            Tache.PrioriteTache cible = etat == TacheEcheanceEvent.Etat.DEPASSEE ? Tache.PrioriteTache.HIGH : Tache.PrioriteTache.MEDIUM;
+            if (tache.getPriorite() == null || tache.getPriorite().compareTo(cible) < 0) {
+                tache.setPriorite(cible);
+            }
+            Long responsableId = tache.getResponsable() != null ? tache.getResponsable().getId() : null;
+            String responsableEmail = tache.getResponsable() != null ? tache.getResponsable().getEmail() : null;
+            log.info("Tâche {} {} (échéance {}), priorité {}, responsable {}", tache.getId(),
+                    etat == TacheEcheanceEvent.Etat.DEPASSEE ? "en retard" : "à échéance proche",
+                    tache.getDateLimite(), tache.getPriorite(), responsableId);
+            eventPublisher.publishEvent(new TacheEcheanceEvent(tache.getId(), tache.getDescription(), tache.getDateLimite(),
+                    tache.getPriorite(), responsableId, responsableEmail, etat));
+        }
+        tacheRepository.saveAll(taches);
+    }
+
+    private static final class Suivi {
+        private final LocalDate dateLimite;
+        private Tache.PrioriteTache priorite;
+        private Long responsableId;
+        private TacheEcheanceEvent.Etat etat;
+
+        Suivi(LocalDate dateLimite, Tache.PrioriteTache priorite, Long responsableId) {
+            this.dateLimite = dateLimite;
+            this.priorite = priorite;
+            this.responsableId = responsableId;
+        }
+
+        // DEPASSEE comes after PROCHE
+        boolean atteint(TacheEcheanceEvent.Etat cible) {
+            return etat != null && etat.compareTo(cible) >= 0;
+        }
+    }
+}
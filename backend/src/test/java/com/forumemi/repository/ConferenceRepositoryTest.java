@@ -0,0 +1,105 @@
+package com.forumemi.repository;
+
+import com.forumemi.dto.ConferenceResponse;
+import com.forumemi.model.Conference;
+import com.forumemi.model.Entreprise;
+import com.forumemi.model.Intervenant;
+import com.forumemi.model.Salle;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A programme of any size must load rooms, speakers and their companies in a single statement.
+// Runs on an embedded H2 database; the caches are off so every load reaches the database.
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ConferenceRepositoryTest {
+
+    private static final LocalDateTime DEBUT = LocalDateTime.of(2026, 3, 10, 9, 0);
+
+    @Autowired
+    private ConferenceRepository conferenceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30, 120})
+    void findAllWithDetailsUsesOneStatement(int nombreConferences) {
+        programme(nombreConferences);
+
+        statistics.clear();
+        List<ConferenceResponse> conferences = conferenceRepository.findAllWithDetails().stream()
+                .map(ConferenceResponse::from)
+                .collect(Collectors.toList());
+
+        assertThat(conferences).hasSize(nombreConferences);
+        assertThat(conferences).allSatisfy(conference -> {
+            assertThat(conference.getSalleNumero()).isNotNull();
+            assertThat(conference.getIntervenants()).hasSize(2)
+                    .allSatisfy(intervenant -> assertThat(intervenant.getEntrepriseNom()).isNotNull());
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30, 120})
+    void findProgrammeUsesOneStatement(int nombreConferences) {
+        programme(nombreConferences);
+
+        statistics.clear();
+        List<ConferenceResponse> conferences = conferenceRepository.findProgramme(DEBUT.minusDays(1), DEBUT.plusDays(30)).stream()
+                .map(ConferenceResponse::from)
+                .collect(Collectors.toList());
+
+        assertThat(conferences).hasSize(nombreConferences);
+        assertThat(conferences).allSatisfy(conference -> assertThat(conference.getIntervenants()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    // conferences spread over several days and two rooms, two speakers from different companies each
+    private void programme(int nombreConferences) {
+        List<Salle> salles = List.of(entityManager.persist(new Salle(1, 480)), entityManager.persist(new Salle(2, 220)));
+        List<Intervenant> intervenants = new ArrayList<>();
+        for (int i = 0; i < Math.max(2, nombreConferences / 2); i++) {
+            Entreprise entreprise = entityManager.persist(new Entreprise("Entreprise " + i));
+            intervenants.add(entityManager.persist(new Intervenant("Intervenant " + i, null, "Data", entreprise)));
+        }
+        for (int i = 0; i < nombreConferences; i++) {
+            LocalDateTime debut = DEBUT.plusDays(i / 20).plusMinutes(30L * (i % 20));
+            Conference conference = new Conference("Conférence " + i, debut, debut.plusMinutes(25), salles.get(i % 2));
+            conference.setIntervenants(List.of(intervenants.get(i % intervenants.size()),
+                    intervenants.get((i + 1) % intervenants.size())));
+            entityManager.persist(conference);
+        }
+        // reads must come from the database, not from the persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
+}